@@ -4,6 +4,9 @@ import com.itzi.itzi.agreement.dto.request.AgreementRequestDTO;
 import com.itzi.itzi.agreement.dto.response.AgreementCalendarResponseDTO;
 import com.itzi.itzi.agreement.dto.response.AgreementDetailResponseDTO;
 import com.itzi.itzi.agreement.service.AgreementService;
+import com.itzi.itzi.global.aijob.AiJobResponse;
+import com.itzi.itzi.global.aijob.AiJobService;
+import com.itzi.itzi.global.api.code.SuccessStatus;
 import com.itzi.itzi.global.api.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +23,7 @@ import java.util.Map;
 public class AgreementController {
 
     private final AgreementService agreementService;
+    private final AiJobService aiJobService;
 
     /**
      * 협의 중인 항목 클릭 → partnershipId 기반으로 postId 반환
@@ -69,6 +73,19 @@ public class AgreementController {
         ));
     }
 
+    /**
+     * AI 기반 협약서 자동 생성 (비동기)
+     * 👉 jobId 즉시 반환, 결과는 GET /ai/jobs/{jobId} 또는 /ai/jobs/{jobId}/events 로 조회
+     */
+    @PostMapping("/ai/{partnershipId}/async")
+    public ResponseEntity<ApiResponse<AiJobResponse>> generateAgreementAiAsync(
+            @PathVariable Long partnershipId
+    ) {
+        AiJobResponse job = aiJobService.submit("AGREEMENT",
+                () -> agreementService.generateAgreementAi(partnershipId));
+        return ResponseEntity.accepted().body(ApiResponse.of(SuccessStatus.AI_JOB_ACCEPTED, job));
+    }
+
     /**
      * 협약서 문서 변환 (DRAFT → GENERATED)
      */
@@ -15,6 +15,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+// 상태별 협약서 조회용 복합 인덱스 (실제 생성은 db/migration/V2__listing_indexes.sql)
+@Table(indexes = {
+        @Index(name = "idx_agreement_status_sender", columnList = "status, sender_id"),
+        @Index(name = "idx_agreement_status_receiver", columnList = "status, receiver_id")
+})
 public class Agreement {
 
     @Id
@@ -1,7 +1,5 @@
 package com.itzi.itzi.agreement.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itzi.itzi.agreement.domain.Agreement;
 import com.itzi.itzi.agreement.domain.Status;
 import com.itzi.itzi.agreement.dto.request.AgreementRequestDTO;
@@ -12,6 +10,8 @@ import com.itzi.itzi.agreement.dto.response.AgreementResponseDTO;
 import com.itzi.itzi.agreement.repository.AgreementRepository;
 import com.itzi.itzi.auth.domain.User;
 import com.itzi.itzi.auth.repository.UserRepository;
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
 import com.itzi.itzi.global.exception.NotFoundException;
 import com.itzi.itzi.global.gemini.GeminiService;
 import com.itzi.itzi.partnership.domain.AcceptedStatus;
@@ -21,14 +21,19 @@ import com.itzi.itzi.partnership.repository.PartnershipRepository;
 import com.itzi.itzi.posts.domain.Post;
 import com.itzi.itzi.posts.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -38,8 +43,8 @@ public class AgreementService {
     private final PartnershipRepository partnershipRepository;
     private final UserRepository userRepository;
     private final GeminiService geminiService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 협약서 생성 (임시저장 상태, DRAFT)
@@ -139,80 +144,131 @@ public class AgreementService {
      * AI 기반 협약서 자동 생성
      * 👉 Partnership 기반으로 최초 Agreement 생성
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // Gemini 대기 동안 커넥션을 잡지 않도록 클래스 트랜잭션 제외
     public AgreementDetailResponseDTO generateAgreementAi(Long partnershipId) {
-        Partnership partnership = partnershipRepository.findById(partnershipId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 partnership 없음"));
+        // 1) 짧은 조회 트랜잭션: 검증 + 프롬프트 구성 (LAZY 연관관계 접근 포함)
+        AgreementDraftPlan plan = transactionTemplate.execute(tx -> {
+            Partnership partnership = partnershipRepository.findById(partnershipId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 partnership 없음"));
 
-        if (partnership.getAcceptedStatus() != AcceptedStatus.ACCEPTED) {
-            throw new IllegalStateException("제휴 문의가 수락된 상태에서만 협약서 AI 생성이 가능합니다.");
-        }
-
-        Post post = partnership.getPost();
-        User sender = partnership.getSender();
-        User receiver = partnership.getReceiver();
-
-        String prompt = buildAgreementPrompt(post, partnership);
-        String raw = geminiService.callGemini(prompt);
+            if (partnership.getAcceptedStatus() != AcceptedStatus.ACCEPTED) {
+                throw new IllegalStateException("제휴 문의가 수락된 상태에서만 협약서 AI 생성이 가능합니다.");
+            }
 
-        Map<String, String> parsed;
-        try {
-            parsed = objectMapper.readValue(raw, new TypeReference<>() {});
-        } catch (Exception e) {
-            parsed = Map.of(
-                    "purpose", partnership.getPurpose(),
-                    "targetPeriod", partnership.getPeriodValue(),
-                    "benefitCondition", partnership.getDetail(),
-                    "role", "상호 협의된 역할과 의무",
-                    "effect", "효력 관련 조항",
-                    "etc", "기타 조항",
-                    "content", raw
+            Post post = partnership.getPost();
+            return new AgreementDraftPlan(
+                    partnership.getSender().getUserId(),
+                    post.getPostId(),
+                    post.getUpdatedAt(),
+                    partnership.getAgreement() != null ? partnership.getAgreement().getAgreementId() : null,
+                    buildAgreementPrompt(post, partnership),
+                    Map.of(
+                            "purpose", Objects.toString(partnership.getPurpose(), ""),
+                            "targetPeriod", Objects.toString(partnership.getPeriodValue(), ""),
+                            "benefitCondition", Objects.toString(partnership.getDetail(), "")
+                    )
             );
-        }
-
-        Agreement agreement = Agreement.builder()
-                .sender(sender)
-                .receiver(receiver)
-                .senderName(sender.getProfileName())       // AI 생성은 프로필명 사용 (기존 코드 유지)
-                .receiverName(receiver.getProfileName())
-                .purpose(parsed.get("purpose"))
-                .targetPeriod(parsed.get("targetPeriod"))
-                .benefitCondition(parsed.get("benefitCondition"))
-                .role(parsed.get("role"))
-                .effect(parsed.get("effect"))
-                .etc(parsed.get("etc"))
-                .content(parsed.get("content"))
-                .status(Status.DRAFT)
-                .partnership(partnership)
-                .post(post)
-                .build();
-
-        LocalDate[] parsedDates = parsePeriod(agreement.getTargetPeriod(), agreement.getContent());
-        agreement.setStartDate(parsedDates[0]);
-        agreement.setEndDate(parsedDates[1]);
+        });
+
+        // 2) 트랜잭션 밖: Gemini 호출(JSON 모드) 및 파싱
+        // 스키마를 지정했으므로 바인딩 실패는 드묾 (응답이 잘린 경우 등) → 기본 조항 + 원문을 본문으로 저장
+        AgreementDraftFields fields = geminiService.callGeminiJson("AGREEMENT", plan.requesterId(), plan.prompt(),
+                AgreementDraftFields.class, raw -> {
+                    log.warn("[AgreementAi] JSON 응답 파싱 실패, 기본 조항으로 대체");
+                    return new AgreementDraftFields(
+                            plan.fallback().get("purpose"),
+                            plan.fallback().get("targetPeriod"),
+                            plan.fallback().get("benefitCondition"),
+                            "상호 협의된 역할과 의무",
+                            "효력 관련 조항",
+                            "기타 조항",
+                            raw
+                    );
+                });
+
+        // 3) 짧은 쓰기 트랜잭션: 조회 이후 바뀐 게 없는지 다시 확인하고 저장
+        return transactionTemplate.execute(tx -> {
+            Partnership partnership = partnershipRepository.findById(partnershipId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 partnership 없음"));
+
+            if (partnership.getAcceptedStatus() != AcceptedStatus.ACCEPTED) {
+                throw new IllegalStateException("제휴 문의가 수락된 상태에서만 협약서 AI 생성이 가능합니다.");
+            }
 
-        Agreement saved = agreementRepository.save(agreement);
-        partnership.setAgreement(saved);
+            Post post = partnership.getPost();
+            Long currentAgreementId = partnership.getAgreement() != null ? partnership.getAgreement().getAgreementId() : null;
+            if (!Objects.equals(post.getPostId(), plan.postId())
+                    || !Objects.equals(post.getUpdatedAt(), plan.postUpdatedAt())
+                    || !Objects.equals(currentAgreementId, plan.agreementId())) {
+                throw new GeneralException(ErrorStatus.AI_SOURCE_CHANGED, "AI 생성 중 모집글 또는 협약서가 변경되었습니다.");
+            }
 
-        AgreementDetailResponseDTO dto = AgreementDetailResponseDTO.fromEntity(saved);
-        dto.setStartDate(parsedDates[0]);
-        dto.setEndDate(parsedDates[1]);
-        return dto;
+            User sender = partnership.getSender();
+            User receiver = partnership.getReceiver();
+
+            Agreement agreement = Agreement.builder()
+                    .sender(sender)
+                    .receiver(receiver)
+                    .senderName(sender.getProfileName())       // AI 생성은 프로필명 사용 (기존 코드 유지)
+                    .receiverName(receiver.getProfileName())
+                    .purpose(fields.purpose())
+                    .targetPeriod(fields.targetPeriod())
+                    .benefitCondition(fields.benefitCondition())
+                    .role(fields.role())
+                    .effect(fields.effect())
+                    .etc(fields.etc())
+                    .content(fields.content())
+                    .status(Status.DRAFT)
+                    .partnership(partnership)
+                    .post(post)
+                    .build();
+
+            LocalDate[] parsedDates = parsePeriod(agreement.getTargetPeriod(), agreement.getContent());
+            agreement.setStartDate(parsedDates[0]);
+            agreement.setEndDate(parsedDates[1]);
+
+            Agreement saved = agreementRepository.save(agreement);
+            partnership.setAgreement(saved);
+
+            AgreementDetailResponseDTO dto = AgreementDetailResponseDTO.fromEntity(saved);
+            dto.setStartDate(parsedDates[0]);
+            dto.setEndDate(parsedDates[1]);
+            return dto;
+        });
     }
 
+    // Gemini JSON 모드 응답 (GeminiClient가 이 레코드로 responseSchema 구성)
+    private record AgreementDraftFields(
+            String purpose,
+            String targetPeriod,           // YYYY-MM-DD ~ YYYY-MM-DD
+            String benefitCondition,
+            String role,
+            String effect,
+            String etc,
+            String content                 // 전체 협약서 본문
+    ) {}
+
+    // AI 호출 전에 읽어 둔 값 + 저장 직전 비교용 스냅샷
+    private record AgreementDraftPlan(
+            Long requesterId,       // Gemini 호출 대기열 기준 (문의를 보낸 사용자)
+            Long postId,
+            LocalDateTime postUpdatedAt,
+            Long agreementId,
+            String prompt,
+            Map<String, String> fallback
+    ) {}
+
     private String buildAgreementPrompt(Post post, Partnership p) {
         return """
         너는 기업과 기관 간의 제휴 협약서를 작성하는 AI 비서야.
-        JSON 형식으로만 응답하라.
-
-        {
-          "purpose": "...",
-          "targetPeriod": "YYYY-MM-DD ~ YYYY-MM-DD",
-          "benefitCondition": "...",
-          "role": "...",
-          "effect": "...",
-          "etc": "...",
-          "content": "전체 협약서 본문"
-        }
+        아래 항목을 채워라.
+        - purpose: 제휴 목적
+        - targetPeriod: 제휴 기간 (YYYY-MM-DD ~ YYYY-MM-DD)
+        - benefitCondition: 혜택 및 조건
+        - role: 양측의 역할과 의무
+        - effect: 효력 관련 조항
+        - etc: 기타 조항
+        - content: 전체 협약서 본문
 
         [제휴 모집글 정보]
         제목: %s
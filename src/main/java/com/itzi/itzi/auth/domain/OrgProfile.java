@@ -2,6 +2,7 @@ package com.itzi.itzi.auth.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -63,6 +64,8 @@ public class OrgProfile {
             joinColumns = @JoinColumn(name = "org_id")
     )
     @Column(name = "keyword", length = 10, nullable = false)
+    // 여러 프로필의 키워드를 한 번의 IN 쿼리로 초기화 (상세 조회 시 프로필 수만큼 쿼리 X)
+    @BatchSize(size = 100)
     // 키워드 중복 X, 순서 없이 저장
     @Builder.Default
     private Set<String> keywords = new HashSet<>();
@@ -0,0 +1,46 @@
+package com.itzi.itzi.bookmark.controller;
+
+import com.itzi.itzi.bookmark.dto.response.BookmarkResponse;
+import com.itzi.itzi.bookmark.service.BookmarkService;
+import com.itzi.itzi.global.api.code.SuccessStatus;
+import com.itzi.itzi.global.api.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/posts/{postId}/bookmark")
+@RequiredArgsConstructor
+public class BookmarkController {
+
+    private final BookmarkService bookmarkService;
+
+    // 북마크 여부 조회
+    @GetMapping
+    public ApiResponse<BookmarkResponse> getBookmark(
+            @PathVariable Long postId,
+            @RequestParam(name = "userId") Long userId
+    ) {
+        BookmarkResponse response = bookmarkService.getBookmark(userId, postId);
+        return ApiResponse.of(SuccessStatus._OK, response);
+    }
+
+    // 북마크 추가 (이미 북마크한 글이면 그대로 성공)
+    @PutMapping
+    public ApiResponse<BookmarkResponse> bookmark(
+            @PathVariable Long postId,
+            @RequestParam(name = "userId") Long userId
+    ) {
+        BookmarkResponse response = bookmarkService.setBookmark(userId, postId, true);
+        return ApiResponse.of(SuccessStatus._OK, response);
+    }
+
+    // 북마크 해제 (북마크하지 않은 글이면 그대로 성공)
+    @DeleteMapping
+    public ApiResponse<BookmarkResponse> unbookmark(
+            @PathVariable Long postId,
+            @RequestParam(name = "userId") Long userId
+    ) {
+        BookmarkResponse response = bookmarkService.setBookmark(userId, postId, false);
+        return ApiResponse.of(SuccessStatus._OK, response);
+    }
+}
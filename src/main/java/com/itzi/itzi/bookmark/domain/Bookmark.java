@@ -0,0 +1,39 @@
+package com.itzi.itzi.bookmark.domain;
+
+import com.itzi.itzi.auth.domain.User;
+import com.itzi.itzi.posts.domain.Post;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+// 사용자당 게시글 1번만 북마크 (중복 저장은 DB 유니크 제약으로 막음)
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_bookmark_user_post", columnNames = {"user_id", "post_id"}),
+        indexes = @Index(name = "idx_bookmark_post", columnList = "post_id")
+)
+public class Bookmark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bookmark_id", nullable = false, unique = true)
+    private Long bookmarkId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,17 @@
+package com.itzi.itzi.bookmark.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class BookmarkResponse {
+
+    private Long postId;
+    private boolean bookmarked;
+
+    // DB 반영 전 증감분까지 더한 북마크 수 (최대 flush 주기만큼 늦게 정렬에 반영)
+    private Long bookmarkCount;
+}
@@ -0,0 +1,25 @@
+package com.itzi.itzi.bookmark.repository;
+
+import com.itzi.itzi.bookmark.domain.Bookmark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
+
+    boolean existsByUser_UserIdAndPost_PostId(Long userId, Long postId);
+
+    // 이미 있으면 무시 → 실제로 추가된 경우에만 1 반환 (동시 요청에도 중복 카운트 X)
+    @Modifying
+    @Query(value = """
+      insert ignore into bookmark (user_id, post_id, created_at)
+      values (:userId, :postId, now(6))
+      """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 실제로 삭제된 경우에만 1 반환
+    @Modifying
+    @Query("delete from Bookmark b where b.user.userId = :userId and b.post.postId = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+}
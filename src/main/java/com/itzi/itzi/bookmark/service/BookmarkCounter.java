@@ -0,0 +1,77 @@
+package com.itzi.itzi.bookmark.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ 게시글별 북마크 수 증감분을 메모리에 모았다가 주기적으로 한 번에 반영
+ - 요청마다 post 행을 갱신하면 인기글에서 행 잠금 대기가 몰리므로, 요청 스레드는 LongAdder에 더하기만 함
+   (LongAdder는 경합 시 셀을 나눠 쓰므로 같은 글에 동시 요청이 몰려도 서로 기다리지 않음)
+ - flush는 글마다 "bookmark_count = bookmark_count + ?" 로 증감분만 더함 (읽고-수정-쓰기 X → 갱신 유실 X)
+ - popular_score(인기순 점수)는 bookmark_count로 계산되는 생성 컬럼이라 flush 때 함께 다시 계산됨
+ - 한 번의 flush는 트랜잭션 하나 → 일부 행만 반영된 채 실패하는 일이 없으므로 실패 시 전체를 되돌려 다시 시도해도 중복 반영 X
+ - 글 수만큼만 항목이 남으므로 0이 된 항목도 지우지 않음 (지우는 순간 들어온 증가분이 유실될 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkCounter {
+
+    private static final String FLUSH_SQL =
+            "update post set bookmark_count = coalesce(bookmark_count, 0) + ? where post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void add(Long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    // 아직 DB에 반영되지 않은 증감분
+    public long pendingDelta(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${bookmark.flush-interval-ms:1000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                batch.add(new Object[]{delta, postId});
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (Exception e) {
+            // 트랜잭션이 롤백되어 아무 행도 반영되지 않았으므로 증감분 전체를 되돌려 놓고 다음 주기에 다시 시도
+            log.warn("Failed to flush bookmark counts for {} posts, retrying next cycle", batch.size(), e);
+            batch.forEach(row -> add((Long) row[1], (Long) row[0]));
+        }
+    }
+
+    // 종료 시 남은 증감분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
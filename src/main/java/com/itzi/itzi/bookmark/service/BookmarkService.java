@@ -0,0 +1,82 @@
+package com.itzi.itzi.bookmark.service;
+
+import com.itzi.itzi.auth.repository.UserRepository;
+import com.itzi.itzi.bookmark.dto.response.BookmarkResponse;
+import com.itzi.itzi.bookmark.repository.BookmarkRepository;
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import com.itzi.itzi.posts.domain.Post;
+import com.itzi.itzi.posts.domain.Status;
+import com.itzi.itzi.posts.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@RequiredArgsConstructor
+public class BookmarkService {
+
+    private final BookmarkRepository bookmarkRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final BookmarkCounter bookmarkCounter;
+
+    // 북마크 설정/해제 (같은 요청을 여러 번 보내도 결과 동일)
+    // post 행은 읽기만 하고, 북마크 수는 실제로 추가/삭제된 경우에만 카운터에 반영
+    @Transactional
+    public BookmarkResponse setBookmark(Long userId, Long postId, boolean bookmarked) {
+
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
+
+        if (!userRepository.existsById(userId)) {
+            throw new GeneralException(ErrorStatus.NOT_FOUND);
+        }
+
+        if (bookmarked) {
+            // 게시된 글만 북마크 가능 (해제는 상태와 무관하게 허용)
+            if (post.getStatus() != Status.PUBLISHED) {
+                throw new GeneralException(ErrorStatus.INVALID_STATUS);
+            }
+            if (bookmarkRepository.insertIfAbsent(userId, postId) > 0) {
+                addCountAfterCommit(postId, 1);
+            }
+        } else if (bookmarkRepository.deleteByUserIdAndPostId(userId, postId) > 0) {
+            addCountAfterCommit(postId, -1);
+        }
+
+        return toResponse(post, bookmarked);
+    }
+
+    // 북마크 여부 조회
+    @Transactional(readOnly = true)
+    public BookmarkResponse getBookmark(Long userId, Long postId) {
+
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
+
+        return toResponse(post, bookmarkRepository.existsByUser_UserIdAndPost_PostId(userId, postId));
+    }
+
+    // 북마크 행 변경이 커밋된 뒤에만 카운터 반영 (롤백 시 수가 어긋나지 않도록)
+    private void addCountAfterCommit(Long postId, long delta) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bookmarkCounter.add(postId, delta);
+            }
+        });
+    }
+
+    private BookmarkResponse toResponse(Post post, boolean bookmarked) {
+        long stored = post.getBookmarkCount() == null ? 0 : post.getBookmarkCount();
+
+        return BookmarkResponse.builder()
+                .postId(post.getPostId())
+                .bookmarked(bookmarked)
+                .bookmarkCount(Math.max(0, stored + bookmarkCounter.pendingDelta(post.getPostId())))
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.itzi.itzi.global.aijob;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import lombok.Builder;
+import lombok.Getter;
+
+// 배치 요청 항목 1건의 결과 (index = 요청 목록에서의 위치)
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AiBatchItemResponse<T> {
+
+    private int index;
+    private boolean success;
+
+    // 성공 시: 단건 API와 같은 응답 DTO
+    private T result;
+
+    // 실패 시
+    private String errorCode;
+    private String errorMessage;
+
+    public static <T> AiBatchItemResponse<T> succeeded(int index, T result) {
+        return AiBatchItemResponse.<T>builder()
+                .index(index)
+                .success(true)
+                .result(result)
+                .build();
+    }
+
+    public static <T> AiBatchItemResponse<T> failed(int index, Throwable e) {
+        AiBatchItemResponse.AiBatchItemResponseBuilder<T> builder = AiBatchItemResponse.<T>builder()
+                .index(index)
+                .success(false);
+
+        if (e instanceof GeneralException ge) {
+            return builder
+                    .errorCode(ge.getErrorReasonHttpStatus().getCode())
+                    .errorMessage(ge.getMessage())
+                    .build();
+        }
+        return builder
+                .errorCode(ErrorStatus.INTERNAL_ERROR.getCode())
+                .errorMessage(ErrorStatus.INTERNAL_ERROR.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.itzi.itzi.global.aijob;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.List;
+
+// 배치 AI 생성 결과 (일부 항목이 실패해도 성공한 항목은 저장되고 200으로 응답)
+@Getter
+@Builder
+public class AiBatchResponse<T> {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<AiBatchItemResponse<T>> items;
+
+    public static <T> AiBatchResponse<T> of(List<AiBatchItemResponse<T>> items) {
+        List<AiBatchItemResponse<T>> sorted = items.stream()
+                .sorted(Comparator.comparingInt(AiBatchItemResponse::getIndex))
+                .toList();
+        int succeeded = (int) sorted.stream().filter(AiBatchItemResponse::isSuccess).count();
+
+        return AiBatchResponse.<T>builder()
+                .total(sorted.size())
+                .succeeded(succeeded)
+                .failed(sorted.size() - succeeded)
+                .items(sorted)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.itzi.itzi.global.aijob;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import com.itzi.itzi.global.gemini.GeminiService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/*
+ 배치 AI 생성: 검증 → 프롬프트 → Gemini 호출 → 초안 생성 → 일괄 저장 흐름을 기능별로 공통 처리
+ - 프롬프트는 aiJobExecutor에서 Gemini로 보내되, 한 배치가 동시에 쓰는 스레드는 ai.batch.concurrency개까지
+   (호출은 GeminiRateLimiter에서 사용자별로 줄을 서므로, 제한이 없으면 한 배치가 풀 전체를 대기 중으로 묶어
+    다른 사용자의 /async, /ai/stream 작업이 밀림)
+ - 항목별로 성공/실패를 따로 돌려줌 → 성공한 항목만 모아 한 번에 저장
+ */
+@Service
+public class AiBatchService {
+
+    private final ThreadPoolTaskExecutor aiJobExecutor;
+    private final GeminiService geminiService;
+    private final int maxSize;
+    private final int concurrency;
+
+    public AiBatchService(@Qualifier("aiJobExecutor") ThreadPoolTaskExecutor aiJobExecutor,
+                          GeminiService geminiService,
+                          @Value("${ai.batch.max-size:10}") int maxSize,
+                          @Value("${ai.batch.concurrency:2}") int concurrency) {
+        this.aiJobExecutor = aiJobExecutor;
+        this.geminiService = geminiService;
+        this.maxSize = maxSize;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    private record Generated(String text, Throwable error) {
+
+        boolean succeeded() {
+            return error == null;
+        }
+    }
+
+    /*
+     배치 실행 (R = 요청 항목, D = 저장할 초안, T = 항목별 응답)
+     - validate/prompt에서 GeneralException이 나면 그 항목만 실패, Gemini 실패도 항목별로 기록
+     - saveAll은 생성에 성공한 초안 전체로 한 번만 호출
+     */
+    public <R, D, T> AiBatchResponse<T> run(String feature, Long userId, List<R> requests,
+                                            Consumer<R> validate,
+                                            Function<R, String> prompt,
+                                            BiFunction<R, String, D> draft,
+                                            Consumer<List<D>> saveAll,
+                                            Function<D, T> toResponse) {
+        checkSize(requests);
+
+        List<AiBatchItemResponse<T>> items = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        List<String> prompts = new ArrayList<>();
+
+        // 1. 검증 + 프롬프트
+        for (int i = 0; i < requests.size(); i++) {
+            R request = requests.get(i);
+            try {
+                validate.accept(request);
+                prompts.add(prompt.apply(request));
+                indexes.add(i);
+            } catch (GeneralException e) {
+                items.add(AiBatchItemResponse.failed(i, e));
+            }
+        }
+
+        // 2. Gemini 호출 (배치당 동시 실행 수 제한)
+        List<Generated> generated = generateAll(feature, userId, prompts);
+
+        List<Integer> savedIndexes = new ArrayList<>();
+        List<D> drafts = new ArrayList<>();
+        for (int k = 0; k < generated.size(); k++) {
+            int index = indexes.get(k);
+            Generated g = generated.get(k);
+            if (g.succeeded()) {
+                savedIndexes.add(index);
+                drafts.add(draft.apply(requests.get(index), g.text()));
+            } else {
+                items.add(AiBatchItemResponse.failed(index, g.error()));
+            }
+        }
+
+        // 3. 일괄 저장
+        if (!drafts.isEmpty()) {
+            saveAll.accept(drafts);
+        }
+        for (int k = 0; k < drafts.size(); k++) {
+            items.add(AiBatchItemResponse.succeeded(savedIndexes.get(k), toResponse.apply(drafts.get(k))));
+        }
+
+        return AiBatchResponse.of(items);
+    }
+
+    private void checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new GeneralException(ErrorStatus.REQUIRED_FIELD_MISSING, "생성할 항목이 없습니다.");
+        }
+        if (items.size() > maxSize) {
+            throw new GeneralException(ErrorStatus.AI_BATCH_TOO_LARGE, "최대 " + maxSize + "건");
+        }
+        if (items.stream().anyMatch(Objects::isNull)) {
+            throw new GeneralException(ErrorStatus.VALIDATION_ERROR, "비어 있는 항목이 있습니다.");
+        }
+    }
+
+    // 결과 순서 = prompts 순서, 동시에 실행 중인 항목이 concurrency개면 하나가 끝날 때까지 다음 제출을 기다림
+    private List<Generated> generateAll(String feature, Long userId, List<String> prompts) {
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<String>> futures = new ArrayList<>(prompts.size());
+        for (String prompt : prompts) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.add(CompletableFuture.failedFuture(new GeneralException(ErrorStatus.INTERNAL_ERROR)));
+                continue;
+            }
+            futures.add(submit(feature, userId, prompt).whenComplete((text, error) -> permits.release()));
+        }
+
+        List<Generated> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<String> future : futures) {
+            try {
+                results.add(new Generated(future.join(), null));
+            } catch (CompletionException e) {
+                results.add(new Generated(null, e.getCause()));
+            }
+        }
+        return results;
+    }
+
+    private CompletableFuture<String> submit(String feature, Long userId, String prompt) {
+        try {
+            return CompletableFuture.supplyAsync(() -> geminiService.callGemini(feature, userId, prompt), aiJobExecutor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(new GeneralException(ErrorStatus.AI_JOB_QUEUE_FULL));
+        }
+    }
+}
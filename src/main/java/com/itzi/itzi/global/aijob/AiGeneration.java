@@ -0,0 +1,31 @@
+package com.itzi.itzi.global.aijob;
+
+import java.util.function.Function;
+
+/*
+ 검증을 마친 AI 생성 요청 1건
+ - feature: 기능 이름 (RECRUITING / BENEFIT / PROMOTION / INQUIRY, Gemini 지표 태그)
+ - userId: 요청한 사용자 (Gemini 호출 대기열 기준)
+ - prompt: Gemini에 보낼 프롬프트
+ - responseType: JSON 모드 응답 레코드 타입 (null이면 일반 텍스트)
+ - completion: 생성 결과(일반 텍스트 또는 responseType 레코드)로 초안을 저장하고 응답 DTO를 만드는 단계
+ 동기/비동기/스트리밍 API가 같은 준비·저장 로직을 공유하고 Gemini 호출 방식만 다르게 가져감
+ */
+public record AiGeneration<T>(String feature, Long userId, String prompt, Class<?> responseType,
+                              Function<Object, T> completion) {
+
+    public AiGeneration(String feature, Long userId, String prompt, Function<String, T> completion) {
+        this(feature, userId, prompt, null, generated -> completion.apply((String) generated));
+    }
+
+    // JSON 모드: completion은 GeminiClient가 바인딩한 레코드를 받음
+    public static <J, T> AiGeneration<T> json(String feature, Long userId, String prompt, Class<J> responseType,
+                                              Function<J, T> completion) {
+        return new AiGeneration<>(feature, userId, prompt, responseType,
+                generated -> completion.apply(responseType.cast(generated)));
+    }
+
+    public T complete(Object generated) {
+        return completion.apply(generated);
+    }
+}
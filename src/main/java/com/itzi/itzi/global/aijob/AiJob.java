@@ -0,0 +1,64 @@
+package com.itzi.itzi.global.aijob;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.api.dto.ErrorReasonDto;
+import com.itzi.itzi.global.exception.GeneralException;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ AI 생성 작업 1건의 상태
+ - 작업 스레드가 상태를 바꾸고 요청 스레드(폴링/SSE)가 읽으므로 필드는 volatile
+ - 완료 시점에 done 을 완료시켜 SSE 구독자에게 알림
+ */
+@Getter
+public class AiJob {
+
+    private final String jobId;
+    private final String feature;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile AiJobStatus status = AiJobStatus.PENDING;
+    private volatile Object result;
+    private volatile String errorCode;
+    private volatile String errorMessage;
+    private volatile LocalDateTime completedAt;
+
+    private final CompletableFuture<AiJob> done = new CompletableFuture<>();
+
+    public AiJob(String jobId, String feature) {
+        this.jobId = jobId;
+        this.feature = feature;
+    }
+
+    void markRunning() {
+        this.status = AiJobStatus.RUNNING;
+    }
+
+    void succeed(Object result) {
+        this.result = result;
+        this.completedAt = LocalDateTime.now();
+        this.status = AiJobStatus.SUCCEEDED;
+        done.complete(this);
+    }
+
+    void fail(Throwable e) {
+        if (e instanceof GeneralException ge) {
+            ErrorReasonDto reason = ge.getErrorReasonHttpStatus();
+            this.errorCode = reason.getCode();
+            this.errorMessage = ge.getMessage();
+        } else {
+            this.errorCode = ErrorStatus.INTERNAL_ERROR.getCode();
+            this.errorMessage = ErrorStatus.INTERNAL_ERROR.getMessage();
+        }
+        this.completedAt = LocalDateTime.now();
+        this.status = AiJobStatus.FAILED;
+        done.complete(this);
+    }
+
+    public boolean isFinished() {
+        return status == AiJobStatus.SUCCEEDED || status == AiJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,27 @@
+package com.itzi.itzi.global.aijob;
+
+import com.itzi.itzi.global.api.code.SuccessStatus;
+import com.itzi.itzi.global.api.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/ai/jobs")
+public class AiJobController {
+
+    private final AiJobService aiJobService;
+
+    // 작업 상태 폴링 (SUCCEEDED 이면 result 포함)
+    @GetMapping("/{jobId}")
+    public ApiResponse<AiJobResponse> getJob(@PathVariable String jobId) {
+        return ApiResponse.of(SuccessStatus._OK, aiJobService.getJob(jobId));
+    }
+
+    // 작업 완료 알림 (SSE): 현재 상태 1회 + 완료 시 결과 1회
+    @GetMapping("/{jobId}/events")
+    public SseEmitter subscribe(@PathVariable String jobId) {
+        return aiJobService.subscribe(jobId);
+    }
+}
@@ -0,0 +1,40 @@
+package com.itzi.itzi.global.aijob;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AiJobResponse {
+
+    private String jobId;
+    private String feature;
+    private AiJobStatus status;
+
+    // SUCCEEDED 일 때만: 동기 API와 같은 응답 DTO
+    private Object result;
+
+    // FAILED 일 때만
+    private String errorCode;
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    public static AiJobResponse from(AiJob job) {
+        return AiJobResponse.builder()
+                .jobId(job.getJobId())
+                .feature(job.getFeature())
+                .status(job.getStatus())
+                .result(job.getResult())
+                .errorCode(job.getErrorCode())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.itzi.itzi.global.aijob;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/*
+ AI 생성 비동기 실행
+ - submit: 작업을 aiJobExecutor에 넣고 jobId를 즉시 반환 (요청 스레드는 Gemini를 기다리지 않음)
+ - 작업은 트랜잭션 밖에서 시작 → 각 서비스의 짧은 저장 트랜잭션만 커넥션을 잡음
+ - 결과는 메모리에 retention 동안 보관, 폴링(GET /ai/jobs/{jobId}) 또는 SSE(/events)로 전달
+ */
+@Slf4j
+@Service
+public class AiJobService {
+
+    private final ThreadPoolTaskExecutor aiJobExecutor;
+    private final Cache<String, AiJob> jobs;
+    private final long sseTimeoutMillis;
+
+    public AiJobService(@Qualifier("aiJobExecutor") ThreadPoolTaskExecutor aiJobExecutor,
+                        @Value("${ai.job.retention:10m}") Duration retention,
+                        @Value("${ai.job.sse-timeout:60s}") Duration sseTimeout) {
+        this.aiJobExecutor = aiJobExecutor;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .maximumSize(10_000)
+                .build();
+        this.sseTimeoutMillis = sseTimeout.toMillis();
+    }
+
+    public AiJobResponse submit(String feature, Supplier<?> task) {
+        AiJob job = new AiJob(UUID.randomUUID().toString(), feature);
+        jobs.put(job.getJobId(), job);
+
+        try {
+            aiJobExecutor.execute(() -> run(job, task));
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(job.getJobId());
+            throw new GeneralException(ErrorStatus.AI_JOB_QUEUE_FULL);
+        }
+        return AiJobResponse.from(job);
+    }
+
+    public AiJobResponse getJob(String jobId) {
+        return AiJobResponse.from(find(jobId));
+    }
+
+    // 현재 상태를 바로 한 번 보내고, 완료되면 결과를 보낸 뒤 스트림 종료
+    public SseEmitter subscribe(String jobId) {
+        AiJob job = find(jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+
+        send(emitter, job);
+        if (!job.isFinished()) {
+            job.getDone().thenAccept(finished -> {
+                send(emitter, finished);
+                emitter.complete();
+            });
+        } else {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    private void run(AiJob job, Supplier<?> task) {
+        job.markRunning();
+        try {
+            job.succeed(task.get());
+        } catch (Exception e) {
+            log.warn("[AiJob] 실패 jobId={}, feature={}, message={}", job.getJobId(), job.getFeature(), e.getMessage(), e);
+            job.fail(e);
+        }
+    }
+
+    private AiJob find(String jobId) {
+        AiJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new GeneralException(ErrorStatus.AI_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private void send(SseEmitter emitter, AiJob job) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(job.getStatus().name().toLowerCase())
+                    .data(AiJobResponse.from(job)));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 먼저 끊은 경우 → 폴링으로도 결과 조회 가능하므로 무시
+            emitter.completeWithError(e);
+        }
+    }
+}
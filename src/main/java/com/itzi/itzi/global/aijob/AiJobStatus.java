@@ -0,0 +1,8 @@
+package com.itzi.itzi.global.aijob;
+
+public enum AiJobStatus {
+    PENDING,    // 큐 대기
+    RUNNING,    // Gemini 호출 중
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,88 @@
+package com.itzi.itzi.global.aijob;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.api.code.SuccessStatus;
+import com.itzi.itzi.global.api.dto.ApiResponse;
+import com.itzi.itzi.global.api.dto.ErrorReasonDto;
+import com.itzi.itzi.global.exception.GeneralException;
+import com.itzi.itzi.global.gemini.GeminiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/*
+ AI 생성 결과를 SSE로 흘려보내기
+ - token: Gemini가 보내는 텍스트 조각 {"text": "..."} (도착하는 대로 전달)
+ - done : 초안 저장 후 동기 API와 같은 ApiResponse
+ - error: 실패 시 ApiResponse.onFailure 형태
+ - Gemini 스트림은 aiJobExecutor에서 읽음 (Tomcat 워커는 emitter만 반환하고 바로 반환)
+ - 클라이언트가 중간에 끊어도 생성과 저장은 끝까지 진행 → 초안 목록에서 이어서 확인 가능
+ */
+@Slf4j
+@Service
+public class AiStreamService {
+
+    private final ThreadPoolTaskExecutor aiJobExecutor;
+    private final GeminiClient geminiClient;
+    private final long timeoutMillis;
+
+    public AiStreamService(@Qualifier("aiJobExecutor") ThreadPoolTaskExecutor aiJobExecutor,
+                           GeminiClient geminiClient,
+                           @Value("${ai.stream.timeout:120s}") Duration timeout) {
+        this.aiJobExecutor = aiJobExecutor;
+        this.geminiClient = geminiClient;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public <T> SseEmitter stream(String feature, AiGeneration<T> generation) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        try {
+            aiJobExecutor.execute(() -> run(feature, generation, emitter));
+        } catch (TaskRejectedException e) {
+            throw new GeneralException(ErrorStatus.AI_JOB_QUEUE_FULL);
+        }
+        return emitter;
+    }
+
+    private <T> void run(String feature, AiGeneration<T> generation, SseEmitter emitter) {
+        AtomicBoolean connected = new AtomicBoolean(true);
+        try {
+            Consumer<String> onChunk = chunk -> send(emitter, connected, "token", Map.of("text", chunk));
+            Object generated = generation.responseType() == null
+                    ? geminiClient.streamContent(generation.feature(), generation.userId(), generation.prompt(), onChunk)
+                    : geminiClient.streamJson(generation.feature(), generation.userId(), generation.prompt(), generation.responseType(), onChunk);
+
+            T result = generation.complete(generated);
+            send(emitter, connected, "done", ApiResponse.of(SuccessStatus._OK, result));
+        } catch (GeneralException e) {
+            ErrorReasonDto reason = e.getErrorReasonHttpStatus();
+            log.warn("[AiStream] 실패 feature={}, code={}, message={}", feature, reason.getCode(), e.getMessage());
+            send(emitter, connected, "error", ApiResponse.onFailure(reason.getCode(), e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("[AiStream] 실패 feature={}", feature, e);
+            send(emitter, connected, "error", ApiResponse.onFailure(
+                    ErrorStatus.INTERNAL_ERROR.getCode(), ErrorStatus.INTERNAL_ERROR.getMessage(), null));
+        }
+        emitter.complete();
+    }
+
+    private void send(SseEmitter emitter, AtomicBoolean connected, String name, Object data) {
+        if (!connected.get()) return;
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 → 이후 전송만 생략
+            connected.set(false);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.itzi.itzi.global.aijob;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/*
+ 업로드 파일을 별도 임시 파일로 복사해 둔 MultipartFile
+ - 요청이 끝나면 서블릿 컨테이너가 임시 파일을 지우므로,
+   비동기 작업에 넘길 파일은 요청 스레드에서 미리 복사해야 함
+ - 힙에 올리지 않고 스트림으로 디스크에 복사 (큰 사진이 여러 건 몰려도 메모리 사용량 일정)
+ - 복사본은 이 객체가 더 이상 쓰이지 않으면(작업 종료 후 GC) 삭제
+ */
+public class BufferedMultipartFile implements MultipartFile {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final Path path;
+    private final long size;
+
+    private BufferedMultipartFile(MultipartFile source) throws IOException {
+        this.name = source.getName();
+        this.originalFilename = source.getOriginalFilename();
+        this.contentType = source.getContentType();
+        this.path = Files.createTempFile("ai-upload-", ".tmp");
+
+        Path spooled = this.path;
+        CLEANER.register(this, () -> {
+            try {
+                Files.deleteIfExists(spooled);
+            } catch (IOException ignored) {
+                // 임시 디렉터리 정리에 맡김
+            }
+        });
+
+        try (InputStream in = source.getInputStream()) {
+            this.size = Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // null/빈 파일은 그대로 반환
+    public static MultipartFile copyOf(MultipartFile source) {
+        if (source == null || source.isEmpty()) {
+            return source;
+        }
+        try {
+            return new BufferedMultipartFile(source);
+        } catch (IOException e) {
+            throw new GeneralException(ErrorStatus.INTERNAL_ERROR, "업로드 파일을 읽지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        transferTo(dest.toPath());
+    }
+
+    @Override
+    public void transferTo(Path dest) throws IOException {
+        Files.copy(path, dest, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
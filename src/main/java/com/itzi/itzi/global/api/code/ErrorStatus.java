@@ -16,6 +16,9 @@ public enum ErrorStatus implements BaseErrorCode {
     DATE_RANGE_INVALID(HttpStatus.BAD_REQUEST, "E-400-04", "종료일은 시작일보다 빠를 수 없습니다."),
     INVALID_TYPE(HttpStatus.BAD_REQUEST, "E-400-05", "잘못된 게시글 타입입니다."),
     INVALID_KEYWORD(HttpStatus.BAD_REQUEST, "E-400-06", "키워드는 최대 5개, 각 키워드는 10자 이내여야 합니다."), // ✅ 추가됨
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "E-400-07", "유효하지 않은 페이지 커서입니다."),
+    INVALID_UPLOAD(HttpStatus.BAD_REQUEST, "E-400-08", "업로드할 수 없는 파일입니다."),
+    UPLOAD_NOT_FOUND(HttpStatus.BAD_REQUEST, "E-400-09", "업로드되지 않았거나 유효하지 않은 이미지 키입니다."),
 
     NOT_FOUND(HttpStatus.NOT_FOUND, "E-404", "대상을 찾을 수 없습니다."),
     PARTNERSHIP_NOT_FOUND(HttpStatus.NOT_FOUND, "E-404-01", "해당 제휴 요청을 찾을 수 없습니다."),
@@ -28,6 +31,8 @@ public enum ErrorStatus implements BaseErrorCode {
     NOT_ALLOWED_DELETE(HttpStatus.CONFLICT, "E-409-05", "삭제할 수 없는 상태의 제휴 요청입니다."),
     POST_ALREADY_EXISTS(HttpStatus.CONFLICT, "E-409-06", "이미 제휴 홍보 게시글이 작성되었습니다."),
     ALREADY_PROCESSED(HttpStatus.CONFLICT, "E-409-07", "이미 수락/거절된 제휴 요청입니다."), // ✅ 여기 추가
+    AI_SOURCE_CHANGED(HttpStatus.CONFLICT, "E-409-08", "AI 생성 중 원본 정보가 변경되었습니다. 다시 시도해주세요."),
+    IMAGE_CLEANUP_IN_PROGRESS(HttpStatus.CONFLICT, "E-409-09", "이미지를 정리하는 중입니다. 잠시 후 다시 시도해주세요."),
 
     _INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E-500-99", "내부 서버 오류"),
 
@@ -37,7 +42,17 @@ public enum ErrorStatus implements BaseErrorCode {
     GEMINI_HTTP_ERROR(HttpStatus.BAD_GATEWAY, "A-502-01", "Gemini HTTP 호출 실패"),
     GEMINI_INVALID_RESPONSE(HttpStatus.BAD_GATEWAY, "A-502-02", "Gemini 응답 포맷이 올바르지 않습니다."),
     GEMINI_ERROR_RETURNED(HttpStatus.BAD_GATEWAY, "A-502-03", "Gemini 응답 에러"),
-    GEMINI_EMPTY_TEXT(HttpStatus.BAD_GATEWAY, "A-502-04", "Gemini가 비어있는 텍스트를 반환했습니다");
+    GEMINI_EMPTY_TEXT(HttpStatus.BAD_GATEWAY, "A-502-04", "Gemini가 비어있는 텍스트를 반환했습니다"),
+    GEMINI_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "A-429-01", "Gemini 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    GEMINI_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "A-503-02", "Gemini 서버가 일시적으로 응답하지 않습니다."),
+    GEMINI_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "A-503-03", "Gemini 장애로 AI 기능을 잠시 사용할 수 없습니다."),
+    GEMINI_BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "A-503-04", "AI 요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    GEMINI_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "A-504-01", "Gemini 응답 시간이 초과되었습니다."),
+
+    // AI 비동기 작업
+    AI_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "A-404-01", "AI 생성 작업을 찾을 수 없습니다."),
+    AI_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "A-503-01", "AI 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    AI_BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "A-400-02", "한 번에 생성할 수 있는 개수를 초과했습니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
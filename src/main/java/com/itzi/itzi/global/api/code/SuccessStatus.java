@@ -18,7 +18,10 @@ public enum SuccessStatus implements BaseCode {
     PARTNERSHIP_SENT(HttpStatus.OK, "INQUIRY200", "문의가 성공적으로 전송되었습니다."),
     PARTNERSHIP_ACCEPTED(HttpStatus.OK, "INQUIRY201", "제휴 요청이 수락되었습니다."),
     PARTNERSHIP_DECLINED(HttpStatus.OK, "INQUIRY202", "제휴 요청이 거절되었습니다."),
-    PARTNERSHIP_DELETED(HttpStatus.OK, "INQUIRY203", "제휴 요청이 삭제되었습니다.");
+    PARTNERSHIP_DELETED(HttpStatus.OK, "INQUIRY203", "제휴 요청이 삭제되었습니다."),
+
+    // AI 비동기 작업
+    AI_JOB_ACCEPTED(HttpStatus.ACCEPTED, "AIJOB202", "AI 생성 작업이 접수되었습니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,35 @@
+package com.itzi.itzi.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AiJobConfig {
+
+    @Value("${ai.executor.pool-size:8}")
+    private int poolSize;
+
+    @Value("${ai.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    // AI 생성 작업 전용 스레드 풀
+    // - Tomcat 워커는 작업 접수만 하고 바로 반환, Gemini 대기는 이 풀에서만 발생
+    // - 풀 크기가 곧 AI 작업이 동시에 잡을 수 있는 DB 커넥션 상한 → 몰려도 Hikari 풀이 고갈되지 않음
+    // - 큐가 가득 차면 AbortPolicy → AiJobService에서 503으로 변환
+    @Bean
+    public ThreadPoolTaskExecutor aiJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,98 @@
+package com.itzi.itzi.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.itzi.itzi.global.gemini.GeminiResilienceSettings;
+import com.itzi.itzi.global.gemini.GeminiResponseCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+public class GeminiConfig {
+
+    @Value("${gemini.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${gemini.cache.ttl:1h}")
+    private Duration cacheTtl;
+
+    @Value("${gemini.cache.maximum-size:1000}")
+    private long cacheMaximumSize;
+
+    @Value("${gemini.read-timeout:30s}")
+    private Duration readTimeout;
+
+    @Value("${gemini.resilience.deadline:40s}")
+    private Duration deadline;
+
+    @Value("${gemini.resilience.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${gemini.resilience.backoff-initial:500ms}")
+    private Duration backoffInitial;
+
+    @Value("${gemini.resilience.backoff-max:5s}")
+    private Duration backoffMax;
+
+    @Value("${gemini.resilience.circuit.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${gemini.resilience.circuit.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${gemini.resilience.circuit.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${gemini.resilience.circuit.open-duration:30s}")
+    private Duration openDuration;
+
+    @Value("${gemini.resilience.bulkhead.max-concurrent:16}")
+    private int maxConcurrent;
+
+    @Value("${gemini.resilience.bulkhead.max-wait:500ms}")
+    private Duration maxWait;
+
+    // Gemini 호출 전용 HttpClient (애플리케이션 전체에서 하나만 사용)
+    // - 연결 풀과 TLS 세션을 재사용하고, HTTP/2로 한 연결에서 여러 요청을 동시에 보냄
+    @Bean
+    public HttpClient geminiHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    // GeminiCallPolicy 설정 (시도별 제한 시간은 gemini.read-timeout)
+    @Bean
+    public GeminiResilienceSettings geminiResilienceSettings() {
+        return GeminiResilienceSettings.builder()
+                .deadline(deadline)
+                .attemptTimeout(readTimeout)
+                .maxAttempts(maxAttempts)
+                .backoffInitial(backoffInitial)
+                .backoffMax(backoffMax)
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumCalls(minimumCalls)
+                .openDuration(openDuration)
+                .maxConcurrent(maxConcurrent)
+                .maxWait(maxWait)
+                .build();
+    }
+
+    // Gemini 응답 캐시는 목록 캐시(spring.cache.caffeine.spec)와 TTL/크기가 달라 따로 등록
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> geminiResponseCacheCustomizer() {
+        return cacheManager -> cacheManager.registerCustomCache(GeminiResponseCache.GEMINI_RESPONSES,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(cacheTtl)
+                        .maximumSize(cacheMaximumSize)
+                        .recordStats()
+                        .build());
+    }
+}
@@ -0,0 +1,34 @@
+package com.itzi.itzi.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ImageVariantConfig {
+
+    @Value("${image.variant.pool-size:2}")
+    private int poolSize;
+
+    @Value("${image.variant.queue-capacity:200}")
+    private int queueCapacity;
+
+    // 이미지 변형 생성 전용 스레드 풀
+    // - 디코딩/리사이즈는 CPU와 메모리를 많이 쓰므로 풀 크기로 동시 처리 수를 제한 (요청 스레드에서는 하지 않음)
+    // - 큐가 가득 차면 AbortPolicy → 변형 없이 원본 URL 사용
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,21 @@
+package com.itzi.itzi.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+@Configuration
+public class TimeConfig {
+
+    // 서비스 기준 시간대 (@Scheduled zone 등 애노테이션에서 쓰도록 문자열 상수로 둠)
+    public static final String ZONE_ID = "Asia/Seoul";
+
+    // "오늘" 판단에 쓰는 시계
+    // - 게시 가능 여부(노출 종료일 검사)와 만료 배치가 같은 날짜 기준을 쓰도록 JVM 기본 시간대 대신 서울 기준으로 고정
+    @Bean
+    public Clock clock() {
+        return Clock.system(ZoneId.of(ZONE_ID));
+    }
+}
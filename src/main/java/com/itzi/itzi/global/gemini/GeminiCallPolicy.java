@@ -0,0 +1,236 @@
+package com.itzi.itzi.global.gemini;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/*
+ Gemini 호출 보호 정책 (GeminiClient의 모든 업스트림 호출이 거침)
+ - 벌크헤드: 동시 호출 수 제한, 자리가 없으면 잠깐만 기다리고 503
+ - 데드라인: 재시도 포함 전체 제한 시간 + 시도별 제한 시간
+   HttpRequest.timeout은 응답 헤더까지만 보장하므로, 본문/스트림을 읽는 동안은 워치독이 호출 스레드를 인터럽트해서 끊음
+ - 재시도: 429/5xx/연결 실패/타임아웃만, 지수 백오프 + 지터, 남은 데드라인 안에서만
+ - 서킷 브레이커: 최근 실패율이 높으면 일정 시간 Gemini를 부르지 않고 바로 503
+   (400/차단/응답 포맷 오류처럼 재시도해도 같은 결과인 실패는 실패율에 넣지 않음)
+ */
+@Slf4j
+@Component
+public class GeminiCallPolicy {
+
+    @FunctionalInterface
+    public interface Attempt<T> {
+        T run(Duration timeout) throws IOException, InterruptedException;
+    }
+
+    // 잠시 후 다시 하면 성공할 수 있는 실패
+    private static final Set<ErrorStatus> TRANSIENT = EnumSet.of(
+            ErrorStatus.GEMINI_RATE_LIMITED,
+            ErrorStatus.GEMINI_UNAVAILABLE,
+            ErrorStatus.GEMINI_TIMEOUT
+    );
+
+    private final GeminiResilienceSettings settings;
+
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+
+    @Getter
+    private final Bulkhead bulkhead;
+
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "gemini-deadline");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public GeminiCallPolicy(GeminiResilienceSettings settings) {
+        this.settings = settings;
+        this.circuitBreaker = CircuitBreaker.of("gemini", CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumCalls())
+                .waitDurationInOpenState(settings.getOpenDuration())
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .recordException(GeminiCallPolicy::isTransient)
+                .build());
+        this.bulkhead = Bulkhead.of("gemini", BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.getMaxConcurrent())
+                .maxWaitDuration(settings.getMaxWait())
+                .build());
+    }
+
+    public <T> T call(Attempt<T> attempt) {
+        return call(attempt, () -> true);
+    }
+
+    // canRetry: 스트리밍처럼 이미 클라이언트로 일부를 보낸 뒤에는 재시도하면 안 되는 경우
+    public <T> T call(Attempt<T> attempt, BooleanSupplier canRetry) {
+        long deadlineAt = System.nanoTime() + settings.getDeadline().toNanos();
+
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException e) {
+            throw new GeneralException(ErrorStatus.GEMINI_BULKHEAD_FULL);
+        }
+
+        try {
+            for (int attemptNo = 1; ; attemptNo++) {
+                try {
+                    return runOnce(attempt, deadlineAt);
+                } catch (GeneralException e) {
+                    if (!isTransient(e) || attemptNo >= settings.getMaxAttempts() || !canRetry.getAsBoolean()) {
+                        throw e;
+                    }
+
+                    Duration backoff = backoff(attemptNo);
+                    if (remaining(deadlineAt).compareTo(backoff) <= 0) {
+                        throw e;
+                    }
+
+                    log.warn("[Gemini] {} → {}ms 후 재시도 ({}/{})", e.getErrorReasonHttpStatus().getCode(),
+                            backoff.toMillis(), attemptNo, settings.getMaxAttempts());
+                    sleep(backoff);
+                }
+            }
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private <T> T runOnce(Attempt<T> attempt, long deadlineAt) {
+        Duration remaining = remaining(deadlineAt);
+        if (remaining.isZero()) {
+            throw new GeneralException(ErrorStatus.GEMINI_TIMEOUT, "deadline exceeded");
+        }
+        Duration timeout = remaining.compareTo(settings.getAttemptTimeout()) < 0 ? remaining : settings.getAttemptTimeout();
+
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (CallNotPermittedException e) {
+            throw new GeneralException(ErrorStatus.GEMINI_CIRCUIT_OPEN);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = runWithDeadline(attempt, timeout);
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
+        }
+    }
+
+    private <T> T runWithDeadline(Attempt<T> attempt, Duration timeout) {
+        Deadline deadline = new Deadline(Thread.currentThread());
+        ScheduledFuture<?> timer = watchdog.schedule(deadline::expire, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        try {
+            return attempt.run(timeout);
+        } catch (HttpTimeoutException e) {
+            throw new GeneralException(ErrorStatus.GEMINI_TIMEOUT, "timeout=" + timeout.toMillis() + "ms");
+        } catch (IOException | UncheckedIOException e) {
+            if (deadline.isExpired()) {
+                throw new GeneralException(ErrorStatus.GEMINI_TIMEOUT, "timeout=" + timeout.toMillis() + "ms");
+            }
+            // 연결 실패, 응답 도중 끊김
+            throw new GeneralException(ErrorStatus.GEMINI_UNAVAILABLE, e.getMessage());
+        } catch (InterruptedException e) {
+            if (deadline.isExpired()) {
+                throw new GeneralException(ErrorStatus.GEMINI_TIMEOUT, "timeout=" + timeout.toMillis() + "ms");
+            }
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorStatus.GEMINI_HTTP_ERROR, "Gemini 호출이 중단되었습니다.");
+        } finally {
+            timer.cancel(false);
+            deadline.finish();
+        }
+    }
+
+    // 지수 백오프(initial * 2^(n-1), 최대 backoffMax)의 절반 + 나머지 절반 안에서 무작위
+    private Duration backoff(int attemptNo) {
+        long base = settings.getBackoffInitial().toMillis() << Math.min(attemptNo - 1, 20);
+        long capped = Math.min(base, settings.getBackoffMax().toMillis());
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private static Duration remaining(long deadlineAt) {
+        long nanos = deadlineAt - System.nanoTime();
+        return nanos > 0 ? Duration.ofNanos(nanos) : Duration.ZERO;
+    }
+
+    private static void sleep(Duration backoff) {
+        try {
+            Thread.sleep(backoff.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorStatus.GEMINI_HTTP_ERROR, "Gemini 호출이 중단되었습니다.");
+        }
+    }
+
+    static boolean isTransient(Throwable e) {
+        return e instanceof GeneralException ge
+                && ge.getErrorCode() instanceof ErrorStatus status
+                && TRANSIENT.contains(status);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    /*
+     시도 1번의 워치독 상태
+     - 만료 처리(인터럽트)와 정상 종료가 겹쳐도, 워치독이 건 인터럽트 플래그는 호출 스레드에 남지 않게 정리
+     */
+    private static final class Deadline {
+        private final Thread caller;
+        private boolean running = true;
+        private boolean expired = false;
+
+        private Deadline(Thread caller) {
+            this.caller = caller;
+        }
+
+        synchronized void expire() {
+            if (running) {
+                expired = true;
+                caller.interrupt();
+            }
+        }
+
+        synchronized boolean isExpired() {
+            return expired;
+        }
+
+        synchronized void finish() {
+            if (expired) {
+                Thread.interrupted();
+            }
+            running = false;
+        }
+    }
+}
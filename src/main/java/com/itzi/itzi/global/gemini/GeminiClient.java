@@ -0,0 +1,399 @@
+package com.itzi.itzi.global.gemini;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/*
+ Gemini generateContent / streamGenerateContent 호출 창구 (모든 AI 기능이 이 빈을 거침)
+ - HttpClient(GeminiConfig), ObjectMapper는 스프링 빈을 공유 → 요청마다 연결/TLS 핸드셰이크, Jackson 초기화 X
+ - 제한 시간/재시도/서킷 브레이커/벌크헤드는 GeminiCallPolicy가 담당
+ - 성공한 응답은 GeminiResponseCache에 저장 (같은 프롬프트 재시도 시 재사용)
+ - 캐시에 없으면 같은 프롬프트의 진행 중 호출에 합류(GeminiRequestCoalescer)하고,
+   실제로 호출할 때만 키 할당량 토큰을 받음(GeminiRateLimiter, 재시도는 같은 토큰으로 처리)
+ - feature: 지표 태그 (RECRUITING / BENEFIT / PROMOTION / AGREEMENT / INQUIRY), userId: 사용자별 공정 대기열 기준
+   (둘 다 null 가능)
+ - 호출 시간/크기/토큰 사용량/실패 코드는 GeminiMetrics로 기록
+ - generateJson/streamJson: JSON 모드 (responseMimeType=application/json + 레코드에서 만든 responseSchema)
+   → 모델이 코드펜스/설명문 없이 스키마에 맞는 JSON만 반환, 호출자마다 한 번만 파싱해서 레코드로 돌려줌
+   → 레코드로 바인딩된 응답만 캐시
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeminiClient {
+
+    private final HttpClient geminiHttpClient;
+    private final ObjectMapper objectMapper;
+    private final GeminiResponseCache responseCache;
+    private final GeminiCallPolicy callPolicy;
+    private final GeminiRateLimiter rateLimiter;
+    private final GeminiRequestCoalescer coalescer;
+    private final GeminiMetrics metrics;
+
+    @Value("${gemini.model:gemini-1.5-flash}")
+    private String model;
+
+    @Value("${gemini.api.key}")
+    private String apiKey;
+
+    @Value("${gemini.endpoint:https://generativelanguage.googleapis.com/v1beta/models/${gemini.model:gemini-1.5-flash}:generateContent}")
+    private String endpoint;
+
+    @Value("${gemini.stream-endpoint:https://generativelanguage.googleapis.com/v1beta/models/${gemini.model:gemini-1.5-flash}:streamGenerateContent}")
+    private String streamEndpoint;
+
+    // 응답 타입별 generationConfig (요청 본문 + 캐시 키용 JSON)
+    private record JsonMode(Map<String, Object> config, String key) {}
+
+    private final Map<Class<?>, JsonMode> jsonModes = new ConcurrentHashMap<>();
+
+
+    public String generateContent(String prompt) {
+        return generateContent(null, null, prompt);
+    }
+
+    // 프롬프트 → 첫 번째 후보의 텍스트 (같은 모델/프롬프트면 캐시된 응답)
+    public String generateContent(String feature, Long userId, String prompt) {
+        String cacheKey = GeminiResponseCache.keyOf(model, null, prompt);
+        Optional<String> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        GeminiRequestCoalescer.Result result = coalescer.execute(cacheKey,
+                () -> callUpstream(feature, userId, "generate", prompt, () -> {
+                    String text = requestContent(feature, prompt, null);
+                    responseCache.put(cacheKey, model, text);
+                    return text;
+                }));
+
+        if (!result.leader()) {
+            metrics.recordCoalesced(feature);
+        }
+        return result.text();
+    }
+
+    // JSON 모드로 생성 → responseType 레코드 (스키마와 맞지 않는 응답이면 GEMINI_INVALID_RESPONSE)
+    public <T> T generateJson(String feature, Long userId, String prompt, Class<T> responseType) {
+        return generateJson(feature, userId, prompt, responseType, null);
+    }
+
+    // onInvalid: 바인딩할 수 없는 응답(잘린 응답 등)의 원문으로 대체값을 만듦
+    public <T> T generateJson(String feature, Long userId, String prompt, Class<T> responseType,
+                              Function<String, T> onInvalid) {
+        JsonMode jsonMode = jsonModeOf(responseType);
+        return jsonCall(feature, jsonMode, prompt, responseType, onInvalid, null,
+                () -> callUpstream(feature, userId, "generate", prompt, () -> requestContent(feature, prompt, jsonMode)));
+    }
+
+    /*
+     JSON 모드 공통 흐름: 캐시 → 진행 중 호출 합류 → 업스트림
+     - 응답 파싱(레코드 바인딩)은 호출자마다 한 번
+     - 먼저 호출한 쪽이 업스트림 응답을 바인딩하고, 성공했을 때만 캐시 (합류한 요청이 풀려나기 전에 캐시가 채워짐)
+     - onChunk: 스트리밍이면 캐시 적중/합류 시 전체 텍스트를 한 조각으로 넘김
+     */
+    private <T> T jsonCall(String feature, JsonMode jsonMode, String prompt, Class<T> responseType,
+                           Function<String, T> onInvalid, Consumer<String> onChunk, Supplier<String> upstream) {
+        String cacheKey = GeminiResponseCache.keyOf(model, jsonMode.key(), prompt);
+        Optional<String> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            if (onChunk != null) {
+                onChunk.accept(cached.get());
+            }
+            return bindOrElse(cached.get(), tryBind(cached.get(), responseType), onInvalid);
+        }
+
+        AtomicReference<T> bound = new AtomicReference<>();
+        GeminiRequestCoalescer.Result result = coalescer.execute(cacheKey, () -> {
+            String text = upstream.get();
+            T value = tryBind(text, responseType);
+            if (value != null) {
+                responseCache.put(cacheKey, model, text);
+                bound.set(value);
+            }
+            return text;
+        });
+
+        if (result.leader()) {
+            return bindOrElse(result.text(), bound.get(), onInvalid);
+        }
+        metrics.recordCoalesced(feature);
+        if (onChunk != null) {
+            onChunk.accept(result.text());
+        }
+        return bindOrElse(result.text(), tryBind(result.text(), responseType), onInvalid);
+    }
+
+    // JSON 응답 → 레코드 (트리를 만들지 않고 파서에서 바로 바인딩), 실패하면 null
+    private <T> T tryBind(String json, Class<T> responseType) {
+        try {
+            return objectMapper.readerFor(responseType).readValue(json);
+        } catch (JsonProcessingException e) {
+            log.warn("[GeminiClient] JSON 모드 응답을 {}로 바인딩하지 못함 (캐시하지 않음): {}",
+                    responseType.getSimpleName(), e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    private static <T> T bindOrElse(String text, T value, Function<String, T> onInvalid) {
+        if (value != null) {
+            return value;
+        }
+        if (onInvalid != null) {
+            return onInvalid.apply(text);
+        }
+        throw new GeneralException(ErrorStatus.GEMINI_INVALID_RESPONSE, "JSON 응답이 스키마와 맞지 않습니다.");
+    }
+
+    // 키 할당량 토큰 대기 → 업스트림 호출 (대기 시간과 호출 시간을 따로 기록)
+    private String callUpstream(String feature, Long userId, String mode, String prompt, Supplier<String> request) {
+        long waitStart = System.nanoTime();
+        try {
+            rateLimiter.acquire(userId);
+        } catch (GeneralException e) {
+            metrics.recordError(feature, e);
+            throw e;
+        }
+        metrics.recordRateLimitWait(feature, Duration.ofNanos(System.nanoTime() - waitStart));
+
+        return metrics.record(feature, mode, prompt, request);
+    }
+
+    private String requestContent(String feature, String prompt, JsonMode jsonMode) {
+        if (!hasText(apiKey)) {
+            throw new GeneralException(ErrorStatus.GEMINI_API_KEY_MISSING);
+        }
+
+        return callPolicy.call(timeout -> {
+            HttpRequest req = buildRequest(endpoint + "?key=" + apiKey, prompt, jsonMode, timeout);
+
+            HttpResponse<String> resp = geminiHttpClient.send(req, HttpResponse.BodyHandlers.ofString());
+
+            // HTTP 레벨 에러 : 429 / 5xx / 그 외
+            if (resp.statusCode() < 200 || resp.statusCode() >= 300) {
+                throw httpError(resp.statusCode(), resp.body());
+            }
+
+            JsonNode root = readJson(resp.body());
+            String text = extractText(root, resp.body());
+            metrics.recordUsage(feature, root.path("usageMetadata"));
+            return text;
+        });
+    }
+
+    /*
+     streamGenerateContent(alt=sse) 호출
+     - 응답을 줄 단위로 읽으면서 "data: {...}" 이벤트마다 텍스트 조각을 onChunk로 바로 넘김
+     - 반환값은 전체 텍스트 (generateContent와 같은 형태, 저장용)
+     - 캐시 적중 시 전체 텍스트를 한 조각으로 바로 넘김, 끝까지 받은 응답은 캐시에 저장
+     - 같은 프롬프트가 이미 진행 중이면 그 결과를 기다렸다가 한 조각으로 넘김
+     */
+    public String streamContent(String prompt, Consumer<String> onChunk) {
+        return streamContent(null, null, prompt, onChunk);
+    }
+
+    public String streamContent(String feature, Long userId, String prompt, Consumer<String> onChunk) {
+        String cacheKey = GeminiResponseCache.keyOf(model, null, prompt);
+        Optional<String> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            onChunk.accept(cached.get());
+            return cached.get();
+        }
+
+        GeminiRequestCoalescer.Result result = coalescer.execute(cacheKey,
+                () -> callUpstream(feature, userId, "stream", prompt, () -> {
+                    String text = requestStream(feature, prompt, null, onChunk);
+                    responseCache.put(cacheKey, model, text);
+                    return text;
+                }));
+
+        if (!result.leader()) {
+            metrics.recordCoalesced(feature);
+            onChunk.accept(result.text());
+        }
+        return result.text();
+    }
+
+    // JSON 모드 스트리밍: 조각은 JSON 텍스트 그대로 넘기고, 끝까지 받은 응답을 responseType 레코드로 반환
+    public <T> T streamJson(String feature, Long userId, String prompt, Class<T> responseType, Consumer<String> onChunk) {
+        JsonMode jsonMode = jsonModeOf(responseType);
+        return jsonCall(feature, jsonMode, prompt, responseType, null, onChunk,
+                () -> callUpstream(feature, userId, "stream", prompt, () -> requestStream(feature, prompt, jsonMode, onChunk)));
+    }
+
+    private String requestStream(String feature, String prompt, JsonMode jsonMode, Consumer<String> onChunk) {
+        if (!hasText(apiKey)) {
+            throw new GeneralException(ErrorStatus.GEMINI_API_KEY_MISSING);
+        }
+
+        // 조각을 한 번이라도 넘겼으면 재시도하지 않음 (클라이언트에 같은 내용이 두 번 나감)
+        AtomicBoolean emitted = new AtomicBoolean(false);
+
+        return callPolicy.call(timeout -> {
+            HttpRequest req = buildRequest(streamEndpoint + "?alt=sse&key=" + apiKey, prompt, jsonMode, timeout);
+
+            HttpResponse<Stream<String>> resp = geminiHttpClient.send(req, HttpResponse.BodyHandlers.ofLines());
+
+            try (Stream<String> lines = resp.body()) {
+                if (resp.statusCode() < 200 || resp.statusCode() >= 300) {
+                    throw httpError(resp.statusCode(), lines.collect(Collectors.joining("\n")));
+                }
+
+                StringBuilder full = new StringBuilder();
+                JsonNode usage = null;                           // 조각마다 누적값, 마지막 것이 최종
+                Iterator<String> it = lines.iterator();
+                while (it.hasNext()) {
+                    String line = it.next();
+                    if (!line.startsWith("data:")) continue;        // 빈 줄(이벤트 구분), 주석 등
+
+                    String data = line.substring("data:".length()).trim();
+                    if (data.isEmpty()) continue;
+
+                    JsonNode node = readJson(data);
+                    if (node.has("usageMetadata")) {
+                        usage = node.get("usageMetadata");
+                    }
+
+                    String chunk = extractChunkText(node, data);
+                    if (!chunk.isEmpty()) {
+                        full.append(chunk);
+                        emitted.set(true);
+                        onChunk.accept(chunk);
+                    }
+                }
+
+                if (!hasText(full)) {
+                    throw new GeneralException(ErrorStatus.GEMINI_EMPTY_TEXT, "stream ended without text");
+                }
+                metrics.recordUsage(feature, usage);
+                return full.toString().trim();
+            }
+        }, () -> !emitted.get());
+    }
+
+    private HttpRequest buildRequest(String url, String prompt, JsonMode jsonMode, Duration timeout) throws IOException {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("contents", List.of(Map.of("parts", List.of(Map.of("text", prompt)))));
+        if (jsonMode != null) {
+            payload.put("generationConfig", jsonMode.config());
+        }
+        String body = objectMapper.writeValueAsString(payload);
+
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(timeout)
+                .header("Content-Type", "application/json; charset=UTF-8")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private JsonMode jsonModeOf(Class<?> responseType) {
+        if (responseType == null) {
+            return null;
+        }
+        return jsonModes.computeIfAbsent(responseType, type -> {
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("responseMimeType", "application/json");
+            config.put("responseSchema", GeminiJsonSchema.of(type));
+            try {
+                return new JsonMode(config, objectMapper.writeValueAsString(config));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    // 429 → 재시도 대상, 5xx → 재시도 + 서킷 브레이커 집계, 그 외 4xx → 바로 실패
+    private GeneralException httpError(int status, String body) {
+        String detail = "status=" + status + ", body=" + body;
+        if (status == 429) {
+            return new GeneralException(ErrorStatus.GEMINI_RATE_LIMITED, detail);
+        }
+        if (status >= 500) {
+            return new GeneralException(ErrorStatus.GEMINI_UNAVAILABLE, detail);
+        }
+        return new GeneralException(ErrorStatus.GEMINI_HTTP_ERROR, detail);
+    }
+
+    // 응답 JSON 파싱 실패는 재시도 대상(IOException)이 아니라 포맷 오류
+    private JsonNode readJson(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new GeneralException(ErrorStatus.GEMINI_INVALID_RESPONSE, e.getOriginalMessage());
+        }
+    }
+
+    // 스트림 조각 하나의 텍스트 (usageMetadata만 있는 마지막 조각 등은 빈 문자열)
+    private String extractChunkText(JsonNode root, String rawChunk) {
+        checkBlocked(root, rawChunk);
+
+        JsonNode parts = root.path("candidates").path(0).path("content").path("parts");
+        StringBuilder sb = new StringBuilder();
+        for (JsonNode part : parts) {
+            sb.append(part.path("text").asText(""));
+        }
+        return sb.toString();
+    }
+
+    private void checkBlocked(JsonNode root, String rawBody) {
+        String blockReason = root.path("promptFeedback").path("blockReason").asText("");
+        if (hasText(blockReason)) {
+            throw new GeneralException(ErrorStatus.GEMINI_BLOCKED, blockReason + " / " + rawBody);
+        }
+    }
+
+    private String extractText(JsonNode root, String rawBody) {
+
+        // 안전성 차단
+        checkBlocked(root, rawBody);
+
+        // candidates/parts 포맷 검증 : GEMINI_INVALID_RESPONSE
+        JsonNode candidates = root.path("candidates");
+        if (!candidates.isArray() || candidates.isEmpty()) {
+            throw new GeneralException(ErrorStatus.GEMINI_INVALID_RESPONSE, "AI 응답에 candidates 누락: " + rawBody);
+        }
+
+        JsonNode parts = candidates.get(0).path("content").path("parts");
+        if (!parts.isArray() || parts.isEmpty()) {
+            throw new GeneralException(ErrorStatus.GEMINI_INVALID_RESPONSE, "AI 응답에 parts 누락: " + rawBody);
+        }
+
+        // 빈 텍스트를 반환했을 경우
+        String text = parts.get(0).path("text").asText();
+        if (!hasText(text)) {
+            throw new GeneralException(ErrorStatus.GEMINI_EMPTY_TEXT, "body=" + rawBody);
+        }
+
+        return text.trim();
+    }
+}
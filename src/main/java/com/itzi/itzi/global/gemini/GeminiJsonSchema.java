@@ -0,0 +1,65 @@
+package com.itzi.itzi.global.gemini;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ 레코드 타입 → Gemini responseSchema (generationConfig.responseSchema)
+ - 레코드 컴포넌트 순서대로 properties / required / propertyOrdering 구성
+ - 문자열·숫자·불리언만 지원 (날짜 등 그 외 타입은 STRING)
+ - 타입별로 한 번만 만들어 재사용
+ */
+final class GeminiJsonSchema {
+
+    private static final ClassValue<Map<String, Object>> SCHEMAS = new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    private GeminiJsonSchema() {
+    }
+
+    static Map<String, Object> of(Class<?> type) {
+        return SCHEMAS.get(type);
+    }
+
+    private static Map<String, Object> build(Class<?> type) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException("Gemini 응답 스키마는 record 타입만 지원: " + type.getName());
+        }
+
+        RecordComponent[] components = type.getRecordComponents();
+        List<String> names = Arrays.stream(components).map(RecordComponent::getName).toList();
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (RecordComponent component : components) {
+            properties.put(component.getName(), Map.of("type", typeOf(component.getType())));
+        }
+
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "OBJECT");
+        schema.put("properties", properties);
+        schema.put("required", names);
+        schema.put("propertyOrdering", names);
+        return Collections.unmodifiableMap(schema);
+    }
+
+    private static String typeOf(Class<?> type) {
+        if (type == int.class || type == long.class || type == Integer.class || type == Long.class) {
+            return "INTEGER";
+        }
+        if (type == double.class || type == float.class || Number.class.isAssignableFrom(type)) {
+            return "NUMBER";
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return "BOOLEAN";
+        }
+        return "STRING";
+    }
+}
@@ -0,0 +1,162 @@
+package com.itzi.itzi.global.gemini;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.itzi.itzi.global.api.code.BaseErrorCode;
+import com.itzi.itzi.global.exception.GeneralException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/*
+ Gemini 호출 지표 (Micrometer → /actuator/metrics, /actuator/prometheus)
+ - gemini.call              : 업스트림 호출 시간 (재시도 포함), feature/mode/outcome 태그, 히스토그램은 yml에서 켬
+ - gemini.ratelimit.wait    : 토큰 버킷 대기 시간
+ - gemini.prompt.size / gemini.response.size : 프롬프트/응답 길이(문자 수)
+ - gemini.tokens            : usageMetadata 토큰 수 (type = prompt / candidates / total)
+ - gemini.cost              : 토큰 수 × 단가(gemini.pricing.*)로 추정한 비용 (USD)
+ - gemini.errors            : 실패 횟수 (code = ErrorStatus 이름, 예: GEMINI_BLOCKED, GEMINI_EMPTY_TEXT)
+ - gemini.coalesced         : 진행 중인 같은 요청에 합류해 호출을 아낀 횟수
+ - 서킷 브레이커 상태/실패율, 벌크헤드 여유, 대기열 길이 게이지
+ 캐시 적중은 Spring Cache 지표(cache.gets, name=geminiResponses)로 확인
+ */
+@Component
+public class GeminiMetrics {
+
+    private static final String UNKNOWN_FEATURE = "OTHER";
+
+    private final MeterRegistry registry;
+    private final double inputPricePerToken;
+    private final double outputPricePerToken;
+
+    public GeminiMetrics(MeterRegistry registry,
+                         GeminiCallPolicy callPolicy,
+                         GeminiRateLimiter rateLimiter,
+                         @Value("${gemini.pricing.input-per-million:0.075}") double inputPerMillion,
+                         @Value("${gemini.pricing.output-per-million:0.30}") double outputPerMillion) {
+        this.registry = registry;
+        this.inputPricePerToken = inputPerMillion / 1_000_000;
+        this.outputPricePerToken = outputPerMillion / 1_000_000;
+
+        CircuitBreaker circuitBreaker = callPolicy.getCircuitBreaker();
+        Gauge.builder("gemini.circuit.state", circuitBreaker, cb -> cb.getState().getOrder())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .register(registry);
+        Gauge.builder("gemini.circuit.failure.rate", circuitBreaker, cb -> cb.getMetrics().getFailureRate())
+                .description("최근 호출 실패율(%), 최소 호출 수 전에는 -1")
+                .register(registry);
+        Gauge.builder("gemini.bulkhead.available", callPolicy.getBulkhead(),
+                        bh -> bh.getMetrics().getAvailableConcurrentCalls())
+                .register(registry);
+        Gauge.builder("gemini.ratelimit.queued", rateLimiter, GeminiRateLimiter::queuedCount)
+                .register(registry);
+    }
+
+    // 업스트림 호출 1건(재시도 포함) 시간 + 크기 + 실패 코드
+    public String record(String feature, String mode, String prompt, Supplier<String> call) {
+        String tag = featureTag(feature);
+        DistributionSummary.builder("gemini.prompt.size")
+                .baseUnit("chars")
+                .tag("feature", tag)
+                .register(registry)
+                .record(prompt.length());
+
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "SUCCESS";
+        try {
+            String text = call.get();
+            DistributionSummary.builder("gemini.response.size")
+                    .baseUnit("chars")
+                    .tag("feature", tag)
+                    .register(registry)
+                    .record(text.length());
+            return text;
+        } catch (GeneralException e) {
+            outcome = codeOf(e.getErrorCode());
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "INTERNAL_ERROR";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("gemini.call")
+                    .tag("feature", tag)
+                    .tag("mode", mode)
+                    .tag("outcome", outcome)
+                    .register(registry));
+            if (!"SUCCESS".equals(outcome)) {
+                errors(tag, outcome).increment();
+            }
+        }
+    }
+
+    // 업스트림 호출 전에 난 실패 (토큰 대기 시간 초과 등)
+    public void recordError(String feature, GeneralException e) {
+        errors(featureTag(feature), codeOf(e.getErrorCode())).increment();
+    }
+
+    public void recordRateLimitWait(String feature, Duration waited) {
+        Timer.builder("gemini.ratelimit.wait")
+                .tag("feature", featureTag(feature))
+                .register(registry)
+                .record(waited);
+    }
+
+    public void recordCoalesced(String feature) {
+        Counter.builder("gemini.coalesced")
+                .tag("feature", featureTag(feature))
+                .register(registry)
+                .increment();
+    }
+
+    // 응답의 usageMetadata (스트리밍은 마지막 조각의 누적값)
+    public void recordUsage(String feature, JsonNode usageMetadata) {
+        if (usageMetadata == null || usageMetadata.isMissingNode() || usageMetadata.isNull()) {
+            return;
+        }
+        String tag = featureTag(feature);
+        long promptTokens = usageMetadata.path("promptTokenCount").asLong(0);
+        long candidateTokens = usageMetadata.path("candidatesTokenCount").asLong(0);
+        long totalTokens = usageMetadata.path("totalTokenCount").asLong(promptTokens + candidateTokens);
+
+        tokens(tag, "prompt").increment(promptTokens);
+        tokens(tag, "candidates").increment(candidateTokens);
+        tokens(tag, "total").increment(totalTokens);
+
+        Counter.builder("gemini.cost")
+                .baseUnit("usd")
+                .description("토큰 단가로 추정한 비용")
+                .tag("feature", tag)
+                .register(registry)
+                .increment(promptTokens * inputPricePerToken + candidateTokens * outputPricePerToken);
+    }
+
+    private Counter errors(String feature, String code) {
+        return Counter.builder("gemini.errors")
+                .tag("feature", feature)
+                .tag("code", code)
+                .register(registry);
+    }
+
+    private Counter tokens(String feature, String type) {
+        return Counter.builder("gemini.tokens")
+                .baseUnit("tokens")
+                .tag("feature", feature)
+                .tag("type", type)
+                .register(registry);
+    }
+
+    private static String featureTag(String feature) {
+        return feature != null ? feature : UNKNOWN_FEATURE;
+    }
+
+    private static String codeOf(BaseErrorCode code) {
+        return code instanceof Enum<?> e ? e.name() : code.getReason().getCode();
+    }
+}
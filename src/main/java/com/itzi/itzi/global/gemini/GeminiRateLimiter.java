@@ -0,0 +1,138 @@
+package com.itzi.itzi.global.gemini;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ Gemini API 키 할당량에 맞춘 토큰 버킷
+ - requests-per-minute 속도로 토큰이 차고, 최대 burst개까지 모아 둠
+ - 토큰이 없으면 사용자별 대기열에 줄을 서고, 사용자 사이에서는 번갈아(라운드 로빈) 토큰을 받음
+   → 한 사용자가 한꺼번에 여러 건을 보내도 다른 사용자가 그 뒤에 한참 밀리지 않음
+ - max-wait 안에 차례가 오지 않으면 Gemini를 부르지 않고 429
+ */
+@Component
+public class GeminiRateLimiter {
+
+    private static final Object ANONYMOUS = new Object();
+
+    private final double permitsPerNano;
+    private final double burst;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    // 사용자 → 대기 중인 요청 (맵 순서 = 다음에 토큰을 받을 사용자 순서)
+    private final LinkedHashMap<Object, ArrayDeque<Object>> queues = new LinkedHashMap<>();
+
+    private double tokens;
+    private long lastRefill = System.nanoTime();
+
+    public GeminiRateLimiter(@Value("${gemini.rate-limit.requests-per-minute:60}") int requestsPerMinute,
+                             @Value("${gemini.rate-limit.burst:5}") int burst,
+                             @Value("${gemini.rate-limit.max-wait:10s}") Duration maxWait) {
+        this.permitsPerNano = requestsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.burst = burst;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.tokens = burst;
+    }
+
+    public void acquire(Long userId) {
+        Object requester = userId != null ? userId : ANONYMOUS;
+        Object ticket = new Object();
+        long deadline = System.nanoTime() + maxWaitNanos;
+
+        lock.lock();
+        try {
+            queues.computeIfAbsent(requester, k -> new ArrayDeque<>()).addLast(ticket);
+
+            while (true) {
+                refill();
+                boolean head = isHead(ticket);
+                if (head && tokens >= 1) {
+                    tokens -= 1;
+                    pollHead();
+                    changed.signalAll();
+                    return;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    remove(requester, ticket);
+                    changed.signalAll();
+                    throw new GeneralException(ErrorStatus.GEMINI_RATE_LIMITED, "AI 요청 대기 시간 초과");
+                }
+
+                // 맨 앞이면 다음 토큰이 찰 때까지, 아니면 앞 요청이 처리될 때까지 대기
+                changed.awaitNanos(head ? Math.min(nanosUntilNextToken(), remaining) : remaining);
+            }
+        } catch (InterruptedException e) {
+            remove(requester, ticket);
+            changed.signalAll();
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorStatus.GEMINI_HTTP_ERROR, "Gemini 호출이 중단되었습니다.");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 지금 토큰을 기다리는 요청 수 (지표용)
+    public int queuedCount() {
+        lock.lock();
+        try {
+            return queues.values().stream().mapToInt(ArrayDeque::size).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+    }
+
+    private long nanosUntilNextToken() {
+        return Math.max(1L, (long) Math.ceil((1 - tokens) / permitsPerNano));
+    }
+
+    private boolean isHead(Object ticket) {
+        Iterator<ArrayDeque<Object>> it = queues.values().iterator();
+        return it.hasNext() && it.next().peekFirst() == ticket;
+    }
+
+    // 맨 앞 사용자의 요청 하나를 빼고, 남은 요청이 있으면 그 사용자를 맨 뒤로 보냄
+    private void pollHead() {
+        Iterator<Map.Entry<Object, ArrayDeque<Object>>> it = queues.entrySet().iterator();
+        Map.Entry<Object, ArrayDeque<Object>> first = it.next();
+        Object requester = first.getKey();
+        ArrayDeque<Object> tickets = first.getValue();
+
+        tickets.pollFirst();
+        it.remove();
+        if (!tickets.isEmpty()) {
+            queues.put(requester, tickets);
+        }
+    }
+
+    private void remove(Object requester, Object ticket) {
+        ArrayDeque<Object> tickets = queues.get(requester);
+        if (tickets == null) return;
+
+        tickets.remove(ticket);
+        if (tickets.isEmpty()) {
+            queues.remove(requester);
+        }
+    }
+}
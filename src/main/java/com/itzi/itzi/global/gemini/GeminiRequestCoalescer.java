@@ -0,0 +1,74 @@
+package com.itzi.itzi.global.gemini;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/*
+ 같은 프롬프트(캐시 키)로 동시에 들어온 요청 합치기
+ - 먼저 온 요청(leader)만 Gemini를 호출하고, 나머지는 그 결과(또는 예외)를 그대로 받음
+ - 완료되면 바로 목록에서 빠짐 → 이후 같은 요청은 GeminiResponseCache가 처리
+ - leader가 Error(OOM 등)로 끝나도 합류한 요청에 전달하고, 합류한 요청은 leader가 걸릴 수 있는 최대 시간
+   (rate limit 대기 + Gemini deadline)까지만 기다림 → 요청/작업 스레드가 무한정 묶이지 않음
+ */
+@Component
+public class GeminiRequestCoalescer {
+
+    public record Result(String text, boolean leader) {}
+
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Duration followerTimeout;
+
+    public GeminiRequestCoalescer(GeminiResilienceSettings settings,
+                                  @Value("${gemini.rate-limit.max-wait:10s}") Duration rateLimitMaxWait) {
+        this.followerTimeout = rateLimitMaxWait.plus(settings.getDeadline());
+    }
+
+    public Result execute(String key, Supplier<String> call) {
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            return new Result(await(existing), false);
+        }
+
+        try {
+            String text = call.get();
+            mine.complete(text);
+            return new Result(text, true);
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 공유 future에 직접 orTimeout을 걸면 다른 요청까지 실패하므로 복사본에만 제한 시간 적용
+    private String await(CompletableFuture<String> future) {
+        try {
+            return future.copy().orTimeout(followerTimeout.toMillis(), TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new GeneralException(ErrorStatus.GEMINI_TIMEOUT);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.itzi.itzi.global.gemini;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/*
+ GeminiCallPolicy 설정값 (application.yml gemini.resilience.*, GeminiConfig에서 생성)
+ */
+@Getter
+@Builder
+public class GeminiResilienceSettings {
+
+    // 재시도를 포함한 호출 1건의 전체 제한 시간
+    @Builder.Default
+    private Duration deadline = Duration.ofSeconds(40);
+
+    // 시도 1번의 제한 시간 (응답 본문/스트림을 끝까지 읽는 시간 포함)
+    @Builder.Default
+    private Duration attemptTimeout = Duration.ofSeconds(30);
+
+    // 429/5xx/타임아웃일 때 최대 시도 횟수 (첫 시도 포함)
+    @Builder.Default
+    private int maxAttempts = 3;
+
+    @Builder.Default
+    private Duration backoffInitial = Duration.ofMillis(500);
+
+    @Builder.Default
+    private Duration backoffMax = Duration.ofSeconds(5);
+
+    // 최근 slidingWindowSize번 중 실패율이 임계치 이상이면 openDuration 동안 바로 실패
+    @Builder.Default
+    private float failureRateThreshold = 50;
+
+    @Builder.Default
+    private int slidingWindowSize = 20;
+
+    @Builder.Default
+    private int minimumCalls = 10;
+
+    @Builder.Default
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    // 동시에 Gemini를 기다릴 수 있는 호출 수, 자리가 없으면 maxWait까지만 대기
+    @Builder.Default
+    private int maxConcurrent = 16;
+
+    @Builder.Default
+    private Duration maxWait = Duration.ofMillis(500);
+}
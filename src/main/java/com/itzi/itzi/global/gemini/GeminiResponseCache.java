@@ -0,0 +1,140 @@
+package com.itzi.itzi.global.gemini;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ Gemini 응답 캐시 (프롬프트 내용 기준)
+ - 키: sha256(모델명 + 생성 설정(JSON 응답 스키마) + 최종 프롬프트) → 같은 입력으로 다시 생성하면 Gemini를 부르지 않음
+   (검증 실패 후 같은 값으로 재시도하는 경우가 대부분)
+ - 1차: Caffeine (GeminiConfig에서 TTL/최대 개수 지정, recordStats)
+   적중률: /actuator/metrics/cache.gets?tag=name:geminiResponses&tag=result:hit
+ - 2차(선택): gemini_prompt_cache 테이블, gemini.cache.persistent.enabled=true 일 때만
+   재시작 후나 다른 인스턴스에서도 재사용, 실패해도 생성 흐름에는 영향 없음
+ */
+@Slf4j
+@Component
+public class GeminiResponseCache {
+
+    public static final String GEMINI_RESPONSES = "geminiResponses";
+
+    private final Cache cache;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean persistentEnabled;
+    private final Duration persistentTtl;
+
+    public GeminiResponseCache(CacheManager cacheManager,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${gemini.cache.persistent.enabled:false}") boolean persistentEnabled,
+                               @Value("${gemini.cache.persistent.ttl:7d}") Duration persistentTtl) {
+        this.cache = cacheManager.getCache(GEMINI_RESPONSES);
+        this.jdbcTemplate = jdbcTemplate;
+        this.persistentEnabled = persistentEnabled;
+        this.persistentTtl = persistentTtl;
+    }
+
+    public static String keyOf(String model, String prompt) {
+        return keyOf(model, null, prompt);
+    }
+
+    // generationConfig: 요청에 함께 보내는 생성 설정 JSON (일반 텍스트 생성이면 null → 기존 키와 같음)
+    public static String keyOf(String model, String generationConfig, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(model).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            if (generationConfig != null) {
+                digest.update(generationConfig.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Optional<String> get(String key) {
+        if (cache != null) {
+            String hit = cache.get(key, String.class);
+            if (hit != null) {
+                return Optional.of(hit);
+            }
+        }
+        if (!persistentEnabled) {
+            return Optional.empty();
+        }
+
+        try {
+            List<String> rows = jdbcTemplate.queryForList(
+                    "select response from gemini_prompt_cache where prompt_hash = ? and created_at > ?",
+                    String.class, key, Timestamp.valueOf(LocalDateTime.now().minus(persistentTtl)));
+            if (rows.isEmpty()) {
+                return Optional.empty();
+            }
+            if (cache != null) {
+                cache.put(key, rows.get(0));
+            }
+            return Optional.of(rows.get(0));
+        } catch (DataAccessException e) {
+            log.warn("[GeminiResponseCache] 영속 캐시 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, String model, String response) {
+        if (cache != null) {
+            cache.put(key, response);
+        }
+        if (!persistentEnabled) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update("""
+                    insert into gemini_prompt_cache (prompt_hash, model, response, created_at)
+                    values (?, ?, ?, now(6))
+                    on duplicate key update response = values(response), created_at = values(created_at)
+                    """, key, model, response);
+        } catch (DataAccessException e) {
+            log.warn("[GeminiResponseCache] 영속 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 만료된 영속 캐시 정리 (1000건씩)
+    @Scheduled(cron = "${gemini.cache.persistent.purge-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        if (!persistentEnabled) {
+            return;
+        }
+
+        Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minus(persistentTtl));
+        int deleted;
+        int total = 0;
+        do {
+            deleted = jdbcTemplate.update(
+                    "delete from gemini_prompt_cache where created_at <= ? limit 1000", threshold);
+            total += deleted;
+        } while (deleted == 1000);
+
+        if (total > 0) {
+            log.info("[GeminiResponseCache] 만료된 영속 캐시 {}건 삭제", total);
+        }
+    }
+}
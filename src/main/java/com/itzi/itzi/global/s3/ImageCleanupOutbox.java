@@ -0,0 +1,316 @@
+package com.itzi.itzi.global.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+ 이미지 삭제 아웃박스
+ - 교체된 이미지는 요청 안에서 바로 지우지 않고 삭제할 키만 기록 (호출한 트랜잭션과 함께 커밋/롤백)
+   → 요청 트랜잭션이 S3 호출을 기다리지 않고, 롤백되면 기존 이미지도 그대로 남음
+ - drain(): grace 기간이 지난 행을 MAX_DELETE_BATCH개씩 DeleteObjects 한 번으로 삭제
+   실패한 키는 attempts 증가 후 다음 주기에 다시 시도, max-attempts에 도달한 행은 로그를 남기고 정리
+   (여전히 아무도 쓰지 않는 객체라면 PostImageReconciler가 다음 점검 때 다시 등록)
+ - 같은 내용의 이미지는 여러 게시글이 공유하므로 참조 수(image_reference)를 확인하고 지움, S3 호출 동안에는 잠금을 잡지 않음
+   1) 선점 트랜잭션: 참조 수 행을 잠그고 다시 쓰이게 된 이미지(참조 수 > 0, 프로필/가게 이미지)는 예약 취소,
+      나머지는 claim_token/claimed_at 으로 선점한 뒤 커밋
+   2) S3 삭제 (트랜잭션 밖)
+   3) 완료 트랜잭션: 내 선점이 그대로인 행만 삭제/실패 기록, 참조 수를 다시 확인
+ - 선점된 키를 다시 붙이려는 요청은 ImageStore에서 잠시 후 다시 시도하도록 거절 (isDeleting)
+   선점은 claim-lease 동안만 유효하고, 그 시간이 지난 선점은 S3를 호출하지 않고 다음 주기에 다시 처리
+ - 불변식: 삭제 호출은 선점이 끝나기 전에 끝나야 함 (끝난 뒤에는 isDeleting이 false라 다시 붙일 수 있음)
+   → DeleteObjects는 cloud.aws.s3.delete-timeout으로 시간을 제한하고, 남은 선점 시간이 그보다 짧으면 호출하지 않음
+   → claim-lease는 delete-timeout보다 길어야 하며 기동 시 확인
+ */
+@Slf4j
+@Component
+public class ImageCleanupOutbox {
+
+    private static final String INSERT_SQL =
+            "insert into image_cleanup_outbox (object_key, attempts, created_at) values (?, 0, ?)";
+
+    private static final RowMapper<Row> ROW_MAPPER =
+            (rs, i) -> new Row(rs.getLong("id"), rs.getString("object_key"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final S3Service s3Service;
+    private final Duration grace;
+    private final int maxAttempts;
+    private final Duration claimLease;
+    private final Duration deleteTimeout;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImageCleanupOutbox(JdbcTemplate jdbcTemplate,
+                              S3Service s3Service,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${image.cleanup.grace:5m}") Duration grace,
+                              @Value("${image.cleanup.max-attempts:10}") int maxAttempts,
+                              @Value("${image.cleanup.claim-lease:2m}") Duration claimLease,
+                              @Value("${cloud.aws.s3.delete-timeout:30s}") Duration deleteTimeout) {
+        if (claimLease.compareTo(deleteTimeout) <= 0) {
+            throw new IllegalStateException("image.cleanup.claim-lease(" + claimLease
+                    + ")는 cloud.aws.s3.delete-timeout(" + deleteTimeout + ")보다 길어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.s3Service = s3Service;
+        this.transactionTemplate = transactionTemplate;
+        this.grace = grace;
+        this.maxAttempts = maxAttempts;
+        this.claimLease = claimLease;
+        this.deleteTimeout = deleteTimeout;
+    }
+
+    // 교체된 이미지 URL 삭제 예약 (이 버킷의 이미지가 아니거나 null 이면 무시)
+    public void enqueue(String... imageUrls) {
+        List<String> keys = new ArrayList<>();
+        for (String url : imageUrls) {
+            String key = s3Service.keyOf(url);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        enqueueKeys(keys);
+    }
+
+    public void enqueueKeys(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, keys.stream()
+                .map(key -> new Object[]{key, now})
+                .toList());
+    }
+
+    // keys 중 이미 삭제 예약된 키 (정리 대상 재등록 방지용, object_key 인덱스로 해당 키만 조회)
+    public Set<String> pendingAmong(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        String in = String.join(",", Collections.nCopies(keys.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select object_key from image_cleanup_outbox where object_key in (" + in + ")", String.class, keys.toArray()));
+    }
+
+    /*
+     워커가 선점해 삭제 중인 키가 있는지 (ImageStore가 참조 수 행을 잠근 뒤 호출)
+     - 요청 트랜잭션의 스냅샷이 아니라 최신 커밋을 보도록 잠금 읽기(for share)
+     */
+    public boolean isDeleting(Collection<String> keys) {
+        String in = String.join(",", Collections.nCopies(keys.size(), "?"));
+        List<Object> args = new ArrayList<>(keys);
+        args.add(Timestamp.valueOf(LocalDateTime.now().minus(claimLease)));
+        return !jdbcTemplate.queryForList(
+                "select id from image_cleanup_outbox where object_key in (" + in + ") and claimed_at >= ? limit 1 for share",
+                Long.class, args.toArray()).isEmpty();
+    }
+
+    @Scheduled(fixedDelayString = "${image.cleanup.interval-ms:60000}")
+    public void drain() {
+        int total = 0;
+        Claim claim;
+        do {
+            claim = transactionTemplate.execute(status -> claim());
+            if (claim.rows().isEmpty()) {
+                continue;
+            }
+
+            // 선점 커밋이 늦어져 삭제 호출이 끝나기 전에 lease가 지날 수 있으면 지우지 않음 (다음 주기에 다시 선점)
+            if (remainingLease(claim).compareTo(deleteTimeout) <= 0) {
+                log.warn("Image cleanup claim too close to expiry before delete, retrying next cycle");
+                break;
+            }
+
+            List<String> keys = claim.rows().stream().map(Row::key).distinct().toList();
+            Set<String> failed;
+            boolean s3Down = false;
+            try {
+                failed = new HashSet<>(s3Service.deleteObjects(keys));
+            } catch (Exception e) {
+                // S3 장애: 이번 묶음 전체를 실패로 기록하고 다음 주기에 다시 시도
+                log.warn("Failed to delete {} images, retrying next cycle", keys.size(), e);
+                failed = new HashSet<>(keys);
+                s3Down = true;
+            }
+
+            // delete-timeout으로 막고 있으므로 정상이라면 일어나지 않음 (GC 멈춤 등) → 완료 단계에서 다시 붙은 이미지를 확인
+            if (remainingLease(claim).isNegative()) {
+                log.error("Image cleanup claim expired during delete: {}", keys.stream().limit(10).toList());
+            }
+
+            Set<String> failedKeys = failed;
+            Claim current = claim;
+            List<Row> retry = transactionTemplate.execute(status -> complete(current, failedKeys));
+            total += claim.rows().size() - retry.size();
+            if (s3Down) {
+                break;
+            }
+            if (!retry.isEmpty()) {
+                log.warn("Failed to delete {} images: {}", retry.size(),
+                        retry.stream().map(Row::key).limit(10).toList());
+                break;
+            }
+        } while (claim.fetched() == S3Service.MAX_DELETE_BATCH);
+
+        if (total > 0) {
+            log.info("[ImageCleanupOutbox] 이미지 {}건 삭제", total);
+        }
+        purgeExhausted();
+    }
+
+    // 재시도 횟수를 다 쓴 행 정리 (남겨 두면 테이블에 계속 쌓이기만 함)
+    private void purgeExhausted() {
+        List<Row> exhausted = jdbcTemplate.query(
+                "select id, object_key from image_cleanup_outbox where attempts >= ? order by id limit ?",
+                ROW_MAPPER, maxAttempts, S3Service.MAX_DELETE_BATCH);
+        if (exhausted.isEmpty()) {
+            return;
+        }
+        log.warn("[ImageCleanupOutbox] {}회 실패한 삭제 예약 {}건 정리: {}", maxAttempts, exhausted.size(),
+                exhausted.stream().map(Row::key).limit(10).toList());
+        jdbcTemplate.batchUpdate("delete from image_cleanup_outbox where id = ? and attempts >= ?",
+                exhausted.stream().map(row -> new Object[]{row.id(), maxAttempts}).toList());
+    }
+
+    // 1) 선점 (트랜잭션 안): 다시 쓰이게 된 이미지는 예약 취소, 나머지는 내 토큰으로 선점
+    private Claim claim() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp staleBefore = Timestamp.valueOf(now.minus(claimLease));
+        List<Row> due = jdbcTemplate.query("""
+                        select id, object_key from image_cleanup_outbox
+                        where created_at <= ? and attempts < ? and (claimed_at is null or claimed_at < ?)
+                        order by id
+                        limit ?
+                        """,
+                ROW_MAPPER, Timestamp.valueOf(now.minus(grace)), maxAttempts, staleBefore, S3Service.MAX_DELETE_BATCH);
+        if (due.isEmpty()) {
+            return new Claim(now, List.of(), 0);
+        }
+
+        // 원본 키 기준으로 참조 수 행을 잠금 (행이 없으면 0으로 만들어서 잠금 → 그 사이 새로 붙이는 요청도 기다림)
+        // 여러 인스턴스가 같은 키를 잠글 때 교착되지 않도록 정렬된 순서로
+        List<String> originals = originalsOf(due);
+        jdbcTemplate.batchUpdate("insert ignore into image_reference (object_key, ref_count, updated_at) values (?, 0, ?)",
+                originals.stream().map(key -> new Object[]{key, Timestamp.valueOf(now)}).toList());
+        Set<String> referenced = referencedOf(originals);
+        referenced.addAll(profileImagesOf(originals));
+
+        List<Row> cancelled = due.stream()
+                .filter(row -> referenced.contains(ImageVariants.originalKeyOf(row.key())))
+                .toList();
+        List<Row> targets = due.stream()
+                .filter(row -> !referenced.contains(ImageVariants.originalKeyOf(row.key())))
+                .toList();
+
+        // 다른 워커가 그 사이 선점한 행은 건드리지 않음
+        jdbcTemplate.batchUpdate("delete from image_cleanup_outbox where id = ? and (claimed_at is null or claimed_at < ?)",
+                cancelled.stream().map(row -> new Object[]{row.id(), staleBefore}).toList());
+        String token = UUID.randomUUID().toString();
+        jdbcTemplate.batchUpdate("""
+                        update image_cleanup_outbox set claim_token = ?, claimed_at = ?
+                        where id = ? and (claimed_at is null or claimed_at < ?)
+                        """,
+                targets.stream().map(row -> new Object[]{token, Timestamp.valueOf(now), row.id(), staleBefore}).toList());
+
+        List<Row> claimed = jdbcTemplate.query("select id, object_key from image_cleanup_outbox where claim_token = ?",
+                ROW_MAPPER, token);
+        return new Claim(now, claimed, due.size(), token);
+    }
+
+    // 3) 완료 (트랜잭션 안): 내 선점이 유지된 행만 정리, 삭제에 실패한 행 반환
+    private List<Row> complete(Claim claim, Set<String> failed) {
+        List<Row> retry = claim.rows().stream().filter(row -> failed.contains(row.key())).toList();
+        List<Row> done = claim.rows().stream().filter(row -> !failed.contains(row.key())).toList();
+
+        jdbcTemplate.batchUpdate("""
+                        update image_cleanup_outbox set attempts = attempts + 1, claim_token = null, claimed_at = null
+                        where id = ? and claim_token = ?
+                        """,
+                retry.stream().map(row -> new Object[]{row.id(), claim.token()}).toList());
+        jdbcTemplate.batchUpdate("delete from image_cleanup_outbox where id = ? and claim_token = ?",
+                done.stream().map(row -> new Object[]{row.id(), claim.token()}).toList());
+
+        if (!done.isEmpty()) {
+            // 다시 확인: 선점 중에는 ImageStore가 붙이기를 거절하므로 정상이라면 모두 0
+            List<String> originals = originalsOf(done);
+            Set<String> referenced = referencedOf(originals);
+            if (!referenced.isEmpty()) {
+                log.error("Images re-attached while being deleted: {}", referenced.stream().limit(10).toList());
+            }
+            String in = String.join(",", Collections.nCopies(originals.size(), "?"));
+            jdbcTemplate.update("delete from image_reference where object_key in (" + in + ") and ref_count = 0",
+                    originals.toArray());
+        }
+        return retry;
+    }
+
+    private Duration remainingLease(Claim claim) {
+        return Duration.between(LocalDateTime.now(), claim.claimedAt().plus(claimLease));
+    }
+
+    private static List<String> originalsOf(List<Row> rows) {
+        return rows.stream()
+                .map(row -> ImageVariants.originalKeyOf(row.key()))
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    // 참조 수 행을 정렬된 순서로 잠그고, 참조 중인(ref_count > 0) 원본 키 반환
+    private Set<String> referencedOf(List<String> originals) {
+        String in = String.join(",", Collections.nCopies(originals.size(), "?"));
+        Set<String> referenced = new HashSet<>();
+        jdbcTemplate.query("select object_key, ref_count from image_reference where object_key in (" + in + ") order by object_key for update",
+                rs -> {
+                    if (rs.getInt("ref_count") > 0) {
+                        referenced.add(rs.getString("object_key"));
+                    }
+                },
+                originals.toArray());
+        return referenced;
+    }
+
+    /*
+     프로필/가게 이미지로 쓰이는 원본 키 (사용자가 직접 넣은 URL이라 참조 수에 잡히지 않음)
+     - 두 컬럼에는 인덱스가 없으므로 예약된 키의 URL로만 조회
+     */
+    private Set<String> profileImagesOf(List<String> originals) {
+        List<String> urls = originals.stream().map(s3Service::urlOf).toList();
+        String in = String.join(",", Collections.nCopies(urls.size(), "?"));
+        List<Object> args = new ArrayList<>(urls);
+        args.addAll(urls);
+        Set<String> keys = new HashSet<>();
+        for (String url : jdbcTemplate.queryForList(
+                "select profile_image from user where profile_image in (" + in + ")"
+                        + " union select store_image from store where store_image in (" + in + ")",
+                String.class, args.toArray())) {
+            keys.add(s3Service.keyOf(url));
+        }
+        return keys;
+    }
+
+    private record Claim(LocalDateTime claimedAt, List<Row> rows, int fetched, String token) {
+
+        Claim(LocalDateTime claimedAt, List<Row> rows, int fetched) {
+            this(claimedAt, rows, fetched, null);
+        }
+    }
+
+    private record Row(long id, String key) {
+    }
+}
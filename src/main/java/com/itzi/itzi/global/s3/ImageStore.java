@@ -0,0 +1,122 @@
+package com.itzi.itzi.global.s3;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/*
+ 게시글 이미지 저장소 (내용 주소 저장 + 참조 수)
+ - 업로드 파일은 내용의 SHA-256으로 키를 정함(images/<sha256>) → 같은 로고/프로필 이미지를 여러 게시글에 올려도 객체는 하나
+ - image_reference에 객체별 게시글 참조 수를 기록, 교체되어 0이 된 이미지만 ImageCleanupOutbox로 삭제 예약
+ - 모두 호출한 트랜잭션 안에서 실행 → 롤백되면 참조 수도 원래대로
+
+ - 다른 곳의 URL(프로필 이미지)을 게시글에 그대로 복사할 때도 share로 참조 수를 올림
+   → 그 게시글의 이미지를 교체할 때 release가 다른 게시글 몫의 참조 수를 깎지 않음
+
+ 붙이기 순서: 객체 확인/업로드(잠금 없음) → 참조 수 증가(행 잠금) → 잠금 안에서 확인 → 기존 이미지 참조 해제
+ - 내용 주소 키는 같은 키에 같은 내용이므로 잠금 전에 올려도 안전 → S3 호출 동안 참조 수 행을 잡지 않음
+ - 잠금 안에서는 워커의 삭제 선점 여부(DB)와 HEAD 한 번만 확인
+   선점 중이면 곧 지워질 수 있으므로 거절(잠시 후 다시 시도), 업로드와 잠금 사이에 워커가 지웠으면 다시 업로드
+   (직접 업로드 키는 다시 올리도록 안내)
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageStore {
+
+    private final S3Service s3Service;
+    private final ImageCleanupOutbox imageCleanupOutbox;
+    private final JdbcTemplate jdbcTemplate;
+
+    /*
+     게시글 이미지 교체: 직접 업로드한 키가 있으면 키 확인만, 없으면 multipart 파일 업로드 (둘 다 없으면 null)
+     - 현재 이미지와 같은 키/같은 내용이면 아무 것도 하지 않고 현재 URL 그대로 반환
+     */
+    public String attach(MultipartFile file, String imageKey, String currentUrl) throws IOException {
+        boolean direct = imageKey != null && !imageKey.isBlank();
+        String key;
+        if (direct) {
+            if (!s3Service.isImageKey(imageKey)) {
+                throw new GeneralException(ErrorStatus.UPLOAD_NOT_FOUND);
+            }
+            key = imageKey;
+        } else if (file != null && !file.isEmpty()) {
+            key = s3Service.contentKey(file);
+        } else {
+            return null;
+        }
+        if (currentUrl != null && key.equals(s3Service.keyOf(currentUrl))) {
+            return currentUrl;
+        }
+
+        String url = direct ? s3Service.resolveUploadedImage(key) : s3Service.uploadIfAbsent(key, file);
+
+        acquire(key);
+        if (imageCleanupOutbox.isDeleting(ImageVariants.withVariants(key))) {
+            throw new GeneralException(ErrorStatus.IMAGE_CLEANUP_IN_PROGRESS);
+        }
+        if (!s3Service.exists(key)) {
+            if (direct) {
+                throw new GeneralException(ErrorStatus.UPLOAD_NOT_FOUND, "이미지를 다시 업로드해주세요.");
+            }
+            url = s3Service.uploadIfAbsent(key, file);
+        }
+        release(currentUrl);
+        return url;
+    }
+
+    /*
+     이미 올라가 있는 이미지 URL(프로필 이미지 등)을 게시글 이미지로 그대로 쓸 때 참조 수 +1
+     - 이 버킷의 images/ 객체가 아니면 참조 수 없이 URL 그대로 반환
+     - 워커가 삭제 중인 객체면 곧 지워지므로 참조를 되돌리고 null (이미지 없이 저장)
+     */
+    public String share(String imageUrl) {
+        String key = s3Service.keyOf(imageUrl);
+        if (key == null) {
+            return imageUrl;
+        }
+        acquire(key);
+        if (imageCleanupOutbox.isDeleting(ImageVariants.withVariants(key))) {
+            decrement(key);
+            return null;
+        }
+        return imageUrl;
+    }
+
+    // 참조 수 +1 (행이 없으면 생성), 행 잠금은 트랜잭션 끝까지 유지
+    private void acquire(String key) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                insert into image_reference (object_key, ref_count, updated_at) values (?, 1, ?)
+                on duplicate key update ref_count = ref_count + 1, updated_at = ?
+                """, key, now, now);
+    }
+
+    // 참조 수 -1, 더 이상 쓰는 게시글이 없으면 원본과 변형 삭제 예약 (이 버킷의 이미지가 아니면 무시)
+    private void release(String imageUrl) {
+        String key = s3Service.keyOf(imageUrl);
+        if (key == null) {
+            return;
+        }
+        decrement(key);
+
+        Integer remaining = jdbcTemplate.query("select ref_count from image_reference where object_key = ?",
+                rs -> rs.next() ? rs.getInt(1) : 0, key);
+        if (remaining == null || remaining == 0) {
+            imageCleanupOutbox.enqueueKeys(ImageVariants.withVariants(key));
+        }
+    }
+
+    private void decrement(String key) {
+        jdbcTemplate.update("""
+                update image_reference set ref_count = ref_count - 1, updated_at = ?
+                where object_key = ? and ref_count > 0
+                """, Timestamp.valueOf(LocalDateTime.now()), key);
+    }
+}
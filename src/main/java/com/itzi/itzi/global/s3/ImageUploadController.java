@@ -0,0 +1,24 @@
+package com.itzi.itzi.global.s3;
+
+import com.itzi.itzi.global.api.code.SuccessStatus;
+import com.itzi.itzi.global.api.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/uploads")
+public class ImageUploadController {
+
+    private final S3Service s3Service;
+
+    // 이미지 업로드 슬롯 발급: 클라이언트가 presigned URL로 버킷에 직접 PUT 한 뒤, key를 작성/게시 API에 전달
+    @PostMapping("/images")
+    public ApiResponse<ImageUploadSlotResponse> createImageUploadSlot(
+            @RequestBody ImageUploadSlotRequest request
+    ) {
+        return ApiResponse.of(SuccessStatus._OK,
+                s3Service.createImageUploadSlot(
+                        request.getContentType(), request.getContentLength(), request.getSha256()));
+    }
+}
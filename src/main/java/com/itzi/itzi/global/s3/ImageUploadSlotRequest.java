@@ -0,0 +1,18 @@
+package com.itzi.itzi.global.s3;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ImageUploadSlotRequest {
+
+    // 업로드할 파일의 Content-Type (image/*)
+    private String contentType;
+
+    // 업로드할 파일 크기 (bytes), 서명에 포함되므로 실제 업로드 크기와 같아야 함
+    private Long contentLength;
+
+    // (선택) 파일 내용의 SHA-256 (hex), 보내면 같은 이미지는 다시 올리지 않아도 됨
+    private String sha256;
+}
@@ -0,0 +1,27 @@
+package com.itzi.itzi.global.s3;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Builder
+public class ImageUploadSlotResponse {
+
+    // 업로드 후 작성/게시 API에 postImageKey(imageKey)로 넘길 값
+    private String key;
+
+    // true: 같은 내용의 이미지가 이미 버킷에 있음 → PUT 없이 key만 사용 (uploadUrl 없음)
+    private boolean uploaded;
+
+    // 이 URL로 파일 본문을 그대로 PUT
+    private String uploadUrl;
+    private String method;
+
+    // PUT 요청에 그대로 실어야 하는 헤더 (서명에 포함됨)
+    private Map<String, String> headers;
+
+    private Instant expiresAt;
+}
@@ -0,0 +1,245 @@
+package com.itzi.itzi.global.s3;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.List;
+
+/*
+ 목록용 이미지 변형 생성 (정사각 썸네일 + 카드뷰 크기)
+ - 원본 해상도가 커도 필요한 만큼만 서브샘플링해서 디코딩 → 디코딩 메모리가 원본 픽셀 수에 비례하지 않음
+ - EXIF 방향(Orientation)은 픽셀에 반영한 뒤, 메타데이터 없이 JPEG로 다시 인코딩 → EXIF(GPS, 기기 정보 등) 제거
+ - WebP 인코더는 JDK ImageIO에 없으므로 JPEG로 생성
+ */
+public final class ImageVariants {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    // 변형 키 = 원본 키 + 접미사 (images/<sha256>-thumb.jpg) → 같은 원본을 쓰는 게시글은 변형도 공유
+    public static final String THUMBNAIL_SUFFIX = "-thumb.jpg";
+    public static final String CARD_SUFFIX = "-card.jpg";
+
+    private static final int THUMBNAIL_SIZE = 240;      // 정사각 크롭
+    private static final int CARD_SIZE = 720;           // 긴 변 기준 축소
+    private static final float JPEG_QUALITY = 0.82f;
+
+    // 압축 폭탄 방어: 이보다 픽셀이 많은 원본은 변형을 만들지 않음
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    public record Result(byte[] thumbnail, byte[] card) {
+    }
+
+    private ImageVariants() {
+    }
+
+    // 원본 키와 그 변형 키 (원본을 지울 때 함께 삭제)
+    public static List<String> withVariants(String originalKey) {
+        return List.of(originalKey, originalKey + THUMBNAIL_SUFFIX, originalKey + CARD_SUFFIX);
+    }
+
+    // 변형 키 → 원본 키 (변형이 아니면 그대로)
+    public static String originalKeyOf(String key) {
+        for (String suffix : new String[]{THUMBNAIL_SUFFIX, CARD_SUFFIX}) {
+            if (key.endsWith(suffix)) {
+                return key.substring(0, key.length() - suffix.length());
+            }
+        }
+        return key;
+    }
+
+    // 읽을 수 없는 형식(HEIC, WebP 등)이거나 너무 큰 원본이면 null
+    public static Result create(InputStream source) throws IOException {
+        BufferedImage image = decode(source);
+        if (image == null) {
+            return null;
+        }
+        return new Result(
+                encodeJpeg(thumbnail(image)),
+                encodeJpeg(fit(image, CARD_SIZE))
+        );
+    }
+
+    private static BufferedImage decode(InputStream source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source)) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    return null;
+                }
+
+                // 썸네일/카드 모두 목표 크기의 2배 이상 남는 범위에서 건너뛰며 읽음 (이후 축소 품질 확보)
+                int factor = Math.max(1, Math.min(width, height) / (THUMBNAIL_SIZE * 2));
+                factor = Math.min(factor, Math.max(1, Math.max(width, height) / (CARD_SIZE * 2)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+
+                int orientation = orientationOf(reader.getImageMetadata(0));
+                return orient(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가운데 기준 정사각 크롭 후 축소
+    private static BufferedImage thumbnail(BufferedImage src) {
+        int side = Math.min(src.getWidth(), src.getHeight());
+        int x = (src.getWidth() - side) / 2;
+        int y = (src.getHeight() - side) / 2;
+        int size = Math.min(THUMBNAIL_SIZE, side);
+        return scale(src, x, y, side, side, size, size);
+    }
+
+    // 비율 유지, 긴 변이 maxSize 이하가 되도록 축소 (확대 X)
+    private static BufferedImage fit(BufferedImage src, int maxSize) {
+        int width = src.getWidth();
+        int height = src.getHeight();
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int w = Math.max(1, (int) Math.round(width * ratio));
+        int h = Math.max(1, (int) Math.round(height * ratio));
+        return scale(src, 0, 0, width, height, w, h);
+    }
+
+    // 투명 배경은 흰색으로 채움 (JPEG는 알파 없음)
+    private static BufferedImage scale(BufferedImage src, int sx, int sy, int sw, int sh, int dw, int dh) {
+        BufferedImage dst = new BufferedImage(dw, dh, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, dw, dh);
+            g.drawImage(src, 0, 0, dw, dh, sx, sy, sx + sw, sy + sh, null);
+        } finally {
+            g.dispose();
+        }
+        return dst;
+    }
+
+    // 메타데이터 없이 인코딩 → JFIF 헤더만 남고 EXIF는 포함되지 않음
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024);
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DISABLED);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // EXIF 방향값(1~8)에 맞게 픽셀 회전/반전
+    private static BufferedImage orient(BufferedImage src, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return src;
+        }
+        int w = src.getWidth();
+        int h = src.getHeight();
+        AffineTransform t = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);       // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);      // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);       // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);        // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);       // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);      // 반대 전치
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);      // 반시계 방향 90도
+        };
+        boolean swap = orientation >= 5;
+        BufferedImage dst = new BufferedImage(swap ? h : w, swap ? w : h,
+                src.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.drawImage(src, t, null);
+        } finally {
+            g.dispose();
+        }
+        return dst;
+    }
+
+    // JPEG APP1(Exif) 세그먼트의 IFD0에서 Orientation 태그만 읽음, 없거나 JPEG가 아니면 1
+    private static int orientationOf(IIOMetadata metadata) {
+        if (metadata == null || !"javax_imageio_jpeg_image_1.0".equals(metadata.getNativeMetadataFormatName())) {
+            return 1;
+        }
+        Node markers = ((IIOMetadataNode) metadata.getAsTree("javax_imageio_jpeg_image_1.0"))
+                .getElementsByTagName("markerSequence").item(0);
+        if (markers == null) {
+            return 1;
+        }
+        for (Node n = markers.getFirstChild(); n != null; n = n.getNextSibling()) {
+            if (n instanceof IIOMetadataNode node && "unknown".equals(node.getNodeName())
+                    && "225".equals(node.getAttribute("MarkerTag"))
+                    && node.getUserObject() instanceof byte[] data) {
+                int orientation = exifOrientation(data);
+                if (orientation > 0) {
+                    return orientation;
+                }
+            }
+        }
+        return 1;
+    }
+
+    // "Exif\0\0" + TIFF 헤더(바이트 순서, 42, IFD0 오프셋) + IFD0 엔트리(12바이트씩)
+    static int exifOrientation(byte[] app1) {
+        try {
+            if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+                return 0;
+            }
+            ByteBuffer tiff = ByteBuffer.wrap(app1, 6, app1.length - 6).slice();
+            tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            if (tiff.getShort(2) != 42) {
+                return 0;
+            }
+            int ifd = tiff.getInt(4);
+            int count = tiff.getShort(ifd) & 0xFFFF;
+            for (int i = 0; i < count; i++) {
+                int entry = ifd + 2 + i * 12;
+                if ((tiff.getShort(entry) & 0xFFFF) == EXIF_ORIENTATION_TAG) {
+                    return tiff.getShort(entry + 8) & 0xFFFF;
+                }
+            }
+            return 0;
+        } catch (IndexOutOfBoundsException e) {
+            // 잘린 EXIF는 방향 정보 없음으로 취급
+            return 0;
+        }
+    }
+}
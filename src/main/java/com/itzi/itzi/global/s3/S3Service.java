@@ -1,65 +1,500 @@
 package com.itzi.itzi.global.s3;
 
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class S3Service {
 
+    // 업로드 읽기 버퍼 (SDK가 재시도용으로 mark 하는 구간은 최대 128KB까지 늘어남)
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    /*
+     업로드 키 형식
+     - images/<sha256>: 내용 주소 키 (같은 내용이면 같은 키 → 한 번만 저장)
+     - images/<uuid>: 해시 없이 발급한 직접 업로드 슬롯, 이전 업로드
+     */
+    private static final String IMAGE_DIR = "images";
+    private static final Pattern UPLOAD_KEY = Pattern.compile(
+            IMAGE_DIR + "/[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+    private static final Pattern CONTENT_KEY = Pattern.compile(IMAGE_DIR + "/[0-9a-f]{64}");
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    // DeleteObjects 한 번에 지울 수 있는 최대 키 수 (S3 제한)
+    public static final int MAX_DELETE_BATCH = 1000;
+
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
 
     @Value("${cloud.aws.s3.bucket-name}")
     private String bucketName;
 
-    // 이미지 업로드
+    // 이 크기를 넘는 파일은 멀티파트 업로드
+    @Value("${cloud.aws.s3.upload.multipart-threshold:16MB}")
+    private DataSize multipartThreshold;
+
+    // 멀티파트 파트 크기 (S3 최소 5MB)
+    @Value("${cloud.aws.s3.upload.part-size:8MB}")
+    private DataSize partSize;
+
+    // 직접 업로드(presigned PUT) 허용 최대 크기
+    @Value("${cloud.aws.s3.upload.max-image-size:10MB}")
+    private DataSize maxImageSize;
+
+    // presigned URL 유효 시간
+    @Value("${cloud.aws.s3.upload.presign-expiry:10m}")
+    private Duration presignExpiry;
+
+    // uuid 키로 직접 업로드한 뒤 이 시간이 지난 객체는 게시글에 붙일 수 없음 (미사용 업로드 정리와 겹치지 않게)
+    @Value("${cloud.aws.s3.upload.max-attach-age:12h}")
+    private Duration maxAttachAge;
+
+    // DeleteObjects 한 번의 최대 시간 (SDK 재시도 포함), 넘으면 ApiCallTimeoutException
+    // ImageCleanupOutbox는 선점(claim-lease)이 이 시간 이상 남아 있을 때만 삭제를 시작함
+    @Value("${cloud.aws.s3.delete-timeout:30s}")
+    private Duration deleteTimeout;
+
+    // 이미지 업로드 (같은 내용이 이미 있으면 전송 생략)
     public String upload(MultipartFile file) throws IOException {
+        return uploadIfAbsent(contentKey(file), file);
+    }
 
-        String randomName = UUID.randomUUID().toString();
-        String dirName = "images";
-        String fileName = dirName + "/" + randomName;
+    /*
+     내용 주소 키: images/<파일 내용의 SHA-256>
+     - 멀티파트 파일은 임시 파일/메모리에 이미 받아 둔 상태이므로 S3로 보내기 전에 한 번 읽어서 해시
+       → 같은 내용이면 S3로 한 바이트도 보내지 않음
+     */
+    public String contentKey(MultipartFile file) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        try (InputStream in = file.getInputStream()) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, n);
+            }
+        }
+        return IMAGE_DIR + "/" + HexFormat.of().formatHex(digest.digest());
+    }
 
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(fileName)
-                .contentType(file.getContentType())
+    /*
+     key에 업로드 (이미 같은 키의 객체가 있으면 건너뜀)
+     - 파일 전체를 byte[]로 읽지 않고 InputStream을 그대로 흘려보냄 (길이를 미리 알려 주므로 SDK도 버퍼링 X)
+       → 업로드 1건이 쓰는 힙은 파일 크기와 무관하게 작은 읽기 버퍼 수준
+     - 큰 파일은 멀티파트 업로드 (파트마다 원본 스트림에서 part-size만큼만 이어서 읽음)
+     */
+    public String uploadIfAbsent(String key, MultipartFile file) throws IOException {
+        if (exists(key)) {
+            log.debug("같은 내용의 이미지가 이미 있어 업로드를 생략합니다. key={}", key);
+            return urlOf(key);
+        }
+
+        long size = file.getSize();
+        if (size > multipartThreshold.toBytes()) {
+            uploadMultipart(key, file);
+        } else {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(file.getContentType())
+                    .contentLength(size)
+                    .build();
+
+            try (InputStream in = new BufferedInputStream(file.getInputStream(), READ_BUFFER_SIZE)) {
+                s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(in, size));
+            }
+        }
+
+        return urlOf(key);
+    }
+
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /*
+     이미지 직접 업로드 슬롯 발급
+     - 서버는 presigned PUT URL만 만들어 주고, 파일 본문은 클라이언트 → 버킷으로 바로 전송
+       → API 서버의 대역폭/요청 스레드가 이미지 크기와 무관해짐
+     - Content-Type, Content-Length 를 서명에 포함 → 다른 형식/크기로 올리면 S3가 거부
+     - sha256(파일 내용의 SHA-256, hex)을 보내면 내용 주소 키(images/<sha256>) 발급
+       이미 같은 내용이 있으면 업로드 URL 없이 키만 반환(uploaded = true) → 클라이언트는 PUT 생략
+       없으면 x-amz-checksum-sha256 도 서명에 포함 → 본문이 해시와 다르면 S3가 거부하므로 키와 내용이 항상 일치
+     */
+    public ImageUploadSlotResponse createImageUploadSlot(String contentType, Long contentLength, String sha256) {
+        validateImage(contentType, contentLength);
+
+        String key;
+        String checksum = null;
+        if (sha256 == null || sha256.isBlank()) {
+            key = newImageKey();
+        } else {
+            String hex = sha256.toLowerCase();
+            if (!SHA256_HEX.matcher(hex).matches()) {
+                throw new GeneralException(ErrorStatus.INVALID_UPLOAD, "sha256은 64자리 16진수여야 합니다.");
+            }
+            key = IMAGE_DIR + "/" + hex;
+            if (exists(key)) {
+                return ImageUploadSlotResponse.builder()
+                        .key(key)
+                        .uploaded(true)
+                        .build();
+            }
+            checksum = Base64.getEncoder().encodeToString(HexFormat.of().parseHex(hex));
+        }
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(presignExpiry)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .checksumSHA256(checksum)
+                        .build())
+                .build());
+
+        // host 는 클라이언트가 알아서 붙이므로 제외
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return ImageUploadSlotResponse.builder()
+                .key(key)
+                .uploadUrl(presigned.url().toString())
+                .method("PUT")
+                .headers(headers)
+                .expiresAt(presigned.expiration())
                 .build();
+    }
+
+    // 직접 업로드 슬롯으로 발급하는 형식의 키인지 (images/<uuid>, images/<sha256>)
+    public boolean isImageKey(String key) {
+        return key != null && (UPLOAD_KEY.matcher(key).matches() || CONTENT_KEY.matcher(key).matches());
+    }
+
+    /*
+     직접 업로드된 이미지 키 확인
+     - 발급한 형식인지, 실제로 버킷에 올라왔는지(HEAD), 형식/크기가 허용 범위인지 확인
+     - 본문은 내려받지 않음, 통과하면 게시글에 저장할 URL 반환
+     - 내용 주소 키는 다른 게시글과 공유하는 객체이므로 업로드 시각 제한(max-attach-age) 없음
+     */
+    public String resolveUploadedImage(String key) {
+        if (!isImageKey(key)) {
+            throw new GeneralException(ErrorStatus.UPLOAD_NOT_FOUND);
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new GeneralException(ErrorStatus.UPLOAD_NOT_FOUND);
+            }
+            throw e;
+        }
+
+        validateImage(head.contentType(), head.contentLength());
+        if (UPLOAD_KEY.matcher(key).matches() && head.lastModified() != null
+                && head.lastModified().isBefore(Instant.now().minus(maxAttachAge))) {
+            throw new GeneralException(ErrorStatus.UPLOAD_NOT_FOUND, "업로드 후 시간이 지나 사용할 수 없는 이미지입니다. 다시 업로드해주세요.");
+        }
+        return urlOf(key);
+    }
+
+    private void validateImage(String contentType, Long contentLength) {
+        if (contentType == null || !contentType.toLowerCase().startsWith("image/")) {
+            throw new GeneralException(ErrorStatus.INVALID_UPLOAD, "이미지 파일만 업로드할 수 있습니다.");
+        }
+        if (contentLength == null || contentLength <= 0) {
+            throw new GeneralException(ErrorStatus.INVALID_UPLOAD, "파일 크기가 올바르지 않습니다.");
+        }
+        if (contentLength > maxImageSize.toBytes()) {
+            throw new GeneralException(ErrorStatus.INVALID_UPLOAD,
+                    "이미지는 최대 " + maxImageSize.toMegabytes() + "MB까지 업로드할 수 있습니다.");
+        }
+    }
+
+    // 서버에서 만든 작은 파일(이미지 변형 등) 업로드 후 URL 반환
+    public String putObject(String key, byte[] content, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) content.length)
+                        .build(),
+                RequestBody.fromBytes(content));
+        return urlOf(key);
+    }
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+    // 객체 본문 스트림 (호출 측에서 close)
+    public InputStream openObject(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    /*
+     업로드 URL → 객체 키 (images/<sha256>, images/<sha256>-card.jpg, images/<uuid> ...)
+     - virtual-hosted: https://<bucket>.s3.<region>.amazonaws.com/images/<uuid>
+     - path-style(로컬 S3 호환 서버): http://host/<bucket>/images/<uuid>
+     - 이 버킷의 images/ 아래 URL이 아니면 null (프로필 이미지 등 외부 URL은 삭제/변형 대상 아님)
+     */
+    public String keyOf(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) {
+            return null;
+        }
+        String path;
+        try {
+            path = URI.create(imageUrl).getPath();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (path == null) {
+            return null;
+        }
 
+        String key = path.startsWith("/") ? path.substring(1) : path;
+        if (key.startsWith(bucketName + "/")) {
+            key = key.substring(bucketName.length() + 1);
+        }
+        // 같은 키로 다시 만든 URL과 같아야 이 버킷의 객체
+        if (!key.startsWith(IMAGE_DIR + "/") || !urlOf(key).equals(imageUrl)) {
+            return null;
+        }
+        return key;
+    }
+
+    /*
+     여러 객체 한 번에 삭제 (DeleteObjects, 최대 MAX_DELETE_BATCH개)
+     - quiet 모드: 실패한 키만 응답에 담김 → 실패한 키 목록 반환
+     - 이미 없는 키는 S3가 성공으로 처리
+     - delete-timeout 안에 끝나지 않으면 예외 (호출이 삭제 선점 시간을 넘기지 않도록)
+     */
+    public List<String> deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        if (keys.size() > MAX_DELETE_BATCH) {
+            throw new IllegalArgumentException("DeleteObjects는 한 번에 " + MAX_DELETE_BATCH + "개까지만 가능합니다: " + keys.size());
+        }
+
+        DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                        .quiet(true)
+                        .build())
+                .overrideConfiguration(o -> o.apiCallTimeout(deleteTimeout))
+                .build());
+
+        return response.errors().stream().map(S3Error::key).toList();
+    }
+
+    // images/ 아래 전체 객체 (ListObjectsV2, 1000개씩 페이지를 넘기며 지연 조회)
+    public Iterable<S3Object> listImageObjects() {
+        return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                        .bucket(bucketName)
+                        .prefix(IMAGE_DIR + "/")
+                        .build())
+                .contents();
+    }
+
+    private static String newImageKey() {
+        return IMAGE_DIR + "/" + UUID.randomUUID();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String urlOf(String key) {
         GetUrlRequest request = GetUrlRequest.builder()
                 .bucket(bucketName)
-                .key(fileName)
+                .key(key)
                 .build();
 
         return s3Client.utilities().getUrl(request).toString();
+    }
+
+    private void uploadMultipart(String key, MultipartFile file) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(file.getContentType())
+                        .build())
+                .uploadId();
+
+        long size = file.getSize();
+        long partBytes = partSize.toBytes();
+        List<CompletedPart> parts = new ArrayList<>();
+
+        try (InputStream in = file.getInputStream()) {
+            long offset = 0;
+            for (int partNumber = 1; offset < size; partNumber++) {
+                long length = Math.min(partBytes, size - offset);
+
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength(length)
+                                .build(),
+                        RequestBody.fromInputStream(
+                                new BufferedInputStream(new PartInputStream(in, length), READ_BUFFER_SIZE), length))
+                        .eTag();
 
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                offset += length;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            // 완료되지 않은 파트가 버킷에 남지 않도록 중단
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (RuntimeException abortError) {
+                e.addSuppressed(abortError);
+            }
+            throw e;
+        }
     }
 
-    // 이미지 삭제
-    public void deleteImageUrl(String imageUrl) {
-        if (imageUrl == null || imageUrl.isEmpty()) {
-            return;
+    // 원본 스트림에서 length 바이트까지만 읽는 뷰 (close 해도 원본은 닫지 않음)
+    private static class PartInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        PartInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
         }
 
-        String imageKey = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
-        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                .bucket(bucketName)
-                .key(imageKey)
-                .build();
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = in.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
 
-        s3Client.deleteObject(deleteObjectRequest);
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            // 다음 파트가 이어서 읽어야 하므로 원본은 닫지 않음
+        }
     }
 }
@@ -1,5 +1,8 @@
 package com.itzi.itzi.partnership.controller;
 
+import com.itzi.itzi.global.aijob.AiJobResponse;
+import com.itzi.itzi.global.aijob.AiJobService;
+import com.itzi.itzi.global.aijob.AiStreamService;
 import com.itzi.itzi.global.api.code.SuccessStatus;
 import com.itzi.itzi.global.api.dto.ApiResponse;
 import com.itzi.itzi.partnership.dto.request.PartnershipPatchRequestDTO;
@@ -12,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -21,6 +25,8 @@ import java.util.List;
 @Slf4j
 public class PartnershipController {
     private final PartnershipService partnershipService;
+    private final AiJobService aiJobService;
+    private final AiStreamService aiStreamService;
 
     /** 1. AI 문의 글 변환 (초안 저장: DRAFT) */
     @PostMapping("/{userId}")
@@ -32,6 +38,25 @@ public class PartnershipController {
         return ResponseEntity.ok(ApiResponse.of(SuccessStatus.PARTNERSHIP_POST, inquiry));
     }
 
+    /** 1-1. AI 문의 글 변환 (비동기: jobId 즉시 반환 → GET /ai/jobs/{jobId}) */
+    @PostMapping("/{userId}/async")
+    public ResponseEntity<ApiResponse<AiJobResponse>> postInquiryAsync(
+            @PathVariable Long userId,
+            @Valid @RequestBody PartnershipPostRequestDTO dto) {
+        AiJobResponse job = aiJobService.submit("INQUIRY",
+                () -> partnershipService.postInquiry(userId, dto.getReceiverId(), dto));
+        return ResponseEntity.accepted().body(ApiResponse.of(SuccessStatus.AI_JOB_ACCEPTED, job));
+    }
+
+    /** 1-2. AI 문의 글 변환 (SSE 스트리밍: token 조각 → 초안 저장 후 done) */
+    @PostMapping("/{userId}/stream")
+    public SseEmitter postInquiryStream(
+            @PathVariable Long userId,
+            @Valid @RequestBody PartnershipPostRequestDTO dto) {
+        return aiStreamService.stream("INQUIRY",
+                partnershipService.prepareInquiry(userId, dto.getReceiverId(), dto));
+    }
+
     /** 2. AI 문의 글 완성 후 보내기 (PATCH → SEND) */
     @PatchMapping("/{partnershipId}/send")
     public ResponseEntity<ApiResponse<PartnershipPatchResponseDTO>> sendInquiry(
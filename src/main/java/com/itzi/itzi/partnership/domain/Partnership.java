@@ -15,6 +15,13 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+// 문의함 조회용 복합 인덱스 (실제 생성은 db/migration/V2__listing_indexes.sql)
+@Table(indexes = {
+        @Index(name = "idx_partnership_sender_send_status", columnList = "sender_id, send_status"),
+        @Index(name = "idx_partnership_receiver_send_status", columnList = "receiver_id, send_status"),
+        @Index(name = "idx_partnership_accepted_sender", columnList = "accepted_status, sender_id"),
+        @Index(name = "idx_partnership_accepted_receiver", columnList = "accepted_status, receiver_id")
+})
 public class Partnership {
 
     @Id
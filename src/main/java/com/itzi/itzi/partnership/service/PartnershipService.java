@@ -1,11 +1,11 @@
 package com.itzi.itzi.partnership.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itzi.itzi.auth.domain.User;
 import com.itzi.itzi.auth.repository.UserRepository;
+import com.itzi.itzi.global.aijob.AiGeneration;
 import com.itzi.itzi.global.api.code.ErrorStatus;
 import com.itzi.itzi.global.exception.GeneralException;
+import com.itzi.itzi.global.gemini.GeminiClient;
 import com.itzi.itzi.partnership.domain.AcceptedStatus;
 import com.itzi.itzi.partnership.domain.Partnership;
 import com.itzi.itzi.partnership.domain.SendStatus;
@@ -18,14 +18,10 @@ import com.itzi.itzi.posts.domain.Post;
 import com.itzi.itzi.posts.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.HashSet;
 import java.util.List;
 
@@ -37,18 +33,26 @@ public class PartnershipService {
     private final UserRepository userRepository;
     private final PartnershipRepository partnershipRepository;
     private final PostRepository postRepository;   // ✅ 모집글 조회를 위해 필요
-
-    @Value("${gemini.api.key}")
-    private String apiKey;
-
-    private static final String GEMINI_ENDPOINT =
-            "https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash:generateContent";
+    private final GeminiClient geminiClient;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 1. AI 문의 글 변환 (POST)
      */
     public PartnershipPostResponseDTO postInquiry(
             Long userId, Long receiverId, PartnershipPostRequestDTO dto
+    ) {
+        AiGeneration<PartnershipPostResponseDTO> generation = prepareInquiry(userId, receiverId, dto);
+
+        // Gemini 호출
+        return generation.complete(geminiClient.generateContent(generation.feature(), generation.userId(), generation.prompt()));
+    }
+
+    /**
+     * 1-1. AI 문의 글 변환 준비 (검증 + 프롬프트, Gemini 호출 방식은 호출자가 결정)
+     */
+    public AiGeneration<PartnershipPostResponseDTO> prepareInquiry(
+            Long userId, Long receiverId, PartnershipPostRequestDTO dto
     ) {
         // ✅ 키워드 유효성 검증
         if (dto.getKeywords() != null) {
@@ -79,10 +83,14 @@ public class PartnershipService {
         // 프롬프트 생성
         String prompt = buildPrompt(dto);
 
-        // Gemini 호출
-        String endpoint = GEMINI_ENDPOINT + "?key=" + apiKey;
-        String aiContent = callGemini(endpoint, prompt);
+        // 저장은 Gemini 응답 이후 짧은 트랜잭션으로 (open-in-view 없이도 응답 변환까지 세션 안에서)
+        return new AiGeneration<>("INQUIRY", userId, prompt,
+                aiContent -> transactionTemplate.execute(tx -> saveInquiry(sender, receiver, post, dto, aiContent)));
+    }
 
+    private PartnershipPostResponseDTO saveInquiry(
+            User sender, User receiver, Post post, PartnershipPostRequestDTO dto, String aiContent
+    ) {
         // 엔티티 저장 (AI 결과 포함, DRAFT 상태)
         Partnership partnership = Partnership.builder()
                 .sender(sender)
@@ -106,6 +114,7 @@ public class PartnershipService {
     /**
      * 2. 문의 보내기 (PATCH)
      */
+    @Transactional
     public PartnershipPatchResponseDTO patchInquiry(
             Long partnershipId, PartnershipPatchRequestDTO dto
     ) {
@@ -132,6 +141,7 @@ public class PartnershipService {
     /**
      * 3. 내가 보낸 문의 조회
      */
+    @Transactional(readOnly = true)
     public List<PartnershipPostResponseDTO> getSentInquiries(Long userId) {
         List<Partnership> list = partnershipRepository.findBySenderUserId(userId);
         return list.stream().map(PartnershipPostResponseDTO::fromEntity).toList();
@@ -140,6 +150,7 @@ public class PartnershipService {
     /**
      * 4. 내가 받은 문의 조회
      */
+    @Transactional(readOnly = true)
     public List<PartnershipPostResponseDTO> getReceivedInquiries(Long userId) {
         List<Partnership> list = partnershipRepository.findByReceiverUserId(userId);
         return list.stream().map(PartnershipPostResponseDTO::fromEntity).toList();
@@ -148,6 +159,7 @@ public class PartnershipService {
     /**
      * 5. 받은 문의 수락
      */
+    @Transactional
     public PartnershipPatchResponseDTO acceptInquiry(Long partnershipId) {
         Partnership partnership = partnershipRepository.findById(partnershipId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PARTNERSHIP_NOT_FOUND));
@@ -170,6 +182,7 @@ public class PartnershipService {
     /**
      * 6. 받은 문의 거절
      */
+    @Transactional
     public PartnershipPatchResponseDTO declineInquiry(Long partnershipId) {
         Partnership partnership = partnershipRepository.findById(partnershipId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PARTNERSHIP_NOT_FOUND));
@@ -192,6 +205,7 @@ public class PartnershipService {
     /**
      * 7. 거절된 보낸 문의 삭제
      */
+    @Transactional
     public void deleteDeclinedInquiry(Long partnershipId) {
         Partnership partnership = partnershipRepository.findById(partnershipId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.PARTNERSHIP_NOT_FOUND));
@@ -239,56 +253,4 @@ public class PartnershipService {
                 dto.getKeywords() != null ? String.join(", ", dto.getKeywords()) : ""
         );
     }
-
-    /**
-     * Gemini API 호출
-     */
-    private String callGemini(String endpoint, String prompt) {
-        try {
-            if (apiKey == null || apiKey.isBlank()) {
-                throw new GeneralException(ErrorStatus.GEMINI_API_KEY_MISSING);
-            }
-
-            ObjectMapper om = new ObjectMapper();
-            String body = "{"
-                    + "\"contents\":[{"
-                    + "  \"parts\":[{"
-                    + "    \"text\":" + om.writeValueAsString(prompt)
-                    + "  }]}]}"
-                    ;
-
-            HttpRequest req = HttpRequest.newBuilder()
-                    .uri(URI.create(endpoint))
-                    .header("Content-Type", "application/json; charset=UTF-8")
-                    .POST(HttpRequest.BodyPublishers.ofString(body))
-                    .build();
-
-            HttpClient client = HttpClient.newHttpClient();
-            HttpResponse<String> resp = client.send(req, HttpResponse.BodyHandlers.ofString());
-
-            if (resp.statusCode() < 200 || resp.statusCode() >= 300) {
-                throw new GeneralException(ErrorStatus.GEMINI_HTTP_ERROR,
-                        "status=" + resp.statusCode() + ", body=" + resp.body());
-            }
-
-            JsonNode root = om.readTree(resp.body());
-            JsonNode parts = root.path("candidates").get(0).path("content").path("parts");
-
-            if (!parts.isArray() || parts.isEmpty()) {
-                throw new GeneralException(ErrorStatus.GEMINI_INVALID_RESPONSE,
-                        "AI 응답에 parts 누락: " + resp.body());
-            }
-
-            String text = parts.get(0).path("text").asText();
-            if (text == null || text.isBlank()) {
-                throw new GeneralException(ErrorStatus.GEMINI_EMPTY_TEXT, "body=" + resp.body());
-            }
-
-            return text.trim();
-
-        } catch (Exception e) {
-            log.error("Gemini 호출 실패", e);
-            throw new GeneralException(ErrorStatus.INTERNAL_ERROR, e.getMessage());
-        }
-    }
 }
@@ -5,6 +5,7 @@ public enum OrderBy {
     CLOSING,            // exposureEndDate
     POPULAR,             // bookmarkCount
     LATEST,             // publishedAt DESC
-    OLDEST              // publishedAt ASC
+    OLDEST,             // publishedAt ASC
+    RELEVANCE           // 검색 정확도순 (keyword 검색 시에만 적용)
 
 }
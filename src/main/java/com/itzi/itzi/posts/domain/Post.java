@@ -21,6 +21,15 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+// 목록/조회 쿼리용 복합 인덱스 (실제 생성은 db/migration/V2__listing_indexes.sql)
+@Table(indexes = {
+        @Index(name = "idx_post_type_status_exposure", columnList = "post_type, status, exposureEndDate"),
+        @Index(name = "idx_post_type_status_end_date", columnList = "post_type, status, endDate"),
+        @Index(name = "idx_post_type_status_published", columnList = "post_type, status, publishedAt"),
+        @Index(name = "idx_post_type_status_popular", columnList = "post_type, status, popular_score"),
+        @Index(name = "idx_post_user_type_status", columnList = "user_id, post_type, status"),
+        @Index(name = "idx_post_agreement_type", columnList = "agreement_id, post_type")
+})
 public class Post {
 
     @Id
@@ -39,6 +48,10 @@ public class Post {
 
     private String postImage;
 
+    // 목록용 이미지 변형 (원본 변경 시 비우고 비동기로 다시 생성, 없으면 원본 사용)
+    private String postImageThumbnail;      // 정사각 썸네일
+    private String postImageCard;           // 카드뷰 크기
+
     @Column(length = 120)
     private String title;           // 모집글 제목
 
@@ -79,9 +92,11 @@ public class Post {
     @Builder.Default
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
-    private Status status = Status.DRAFT;         // DRAFT, PUBLISHED, DELETED
+    private Status status = Status.DRAFT;         // DRAFT, PUBLISHED, DELETED, EXPIRED
 
+    // 북마크 수는 BookmarkCounter가 증감분으로만 갱신 → 엔티티 저장 시 덮어쓰지 않도록 updatable = false
     @Builder.Default
+    @Column(updatable = false)
     private Long bookmarkCount = 0L;
 
     @CreationTimestamp
@@ -94,6 +109,17 @@ public class Post {
 
     private LocalDateTime publishedAt;
 
+    /*
+     인기순 정렬 점수 (DB 생성 컬럼, V5__popular_score.sql)
+     popular_score = log2(1 + bookmark_count) + (게시 시각 - 기준 시각) / 반감기(3일)
+     → 지금 시각 기준 (1 + 북마크 수) × 2^(-경과 시간 / 3일) 과 같은 순서
+       (북마크가 2배 많으면 3일 먼저 올라온 글과 동점, 오래된 글이 계속 상위에 남지 않음)
+     - 시간이 지나도 글끼리의 순서는 바뀌지 않으므로 주기적으로 전체를 다시 계산할 필요 없음
+     - bookmark_count가 바뀔 때(BookmarkCounter flush)만 DB가 다시 계산
+     */
+    @Column(name = "popular_score", insertable = false, updatable = false)
+    private Double popularScore;
+
     // 제휴 제안자, 대상자
     private Boolean exposeProposerInfo;
     private Boolean exposeTargetInfo;
@@ -0,0 +1,16 @@
+package com.itzi.itzi.posts.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 목록 정렬 컬럼 (커서 페이지네이션의 기준 값)
+@Getter
+@AllArgsConstructor
+public enum PostSortKey {
+    EXPOSURE_END_DATE("exposureEndDate"),     // 홍보글 마감 임박순
+    END_DATE("endDate"),                      // 모집글 마감 임박순
+    PUBLISHED_AT("publishedAt"),              // 최신순, 오래된순
+    POPULAR_SCORE("popularScore");            // 인기순 (북마크 수 + 시간 감쇠)
+
+    private final String attribute;
+}
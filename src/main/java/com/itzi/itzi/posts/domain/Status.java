@@ -3,5 +3,6 @@ package com.itzi.itzi.posts.domain;
 public enum Status {
     DRAFT,
     PUBLISHED,
-    DELETED
+    DELETED,
+    EXPIRED     // 노출 종료일이 지나 목록에서 내려간 글 (PostExpirySweeper)
 }
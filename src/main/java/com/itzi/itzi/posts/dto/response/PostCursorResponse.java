@@ -0,0 +1,22 @@
+package com.itzi.itzi.posts.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCursorResponse {
+
+    private List<PostListResponse> content;
+    private int size;
+
+    private boolean hasNext;
+    private String nextCursor;      // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+
+}
@@ -1,5 +1,6 @@
 package com.itzi.itzi.posts.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.itzi.itzi.auth.domain.Category;
 import com.itzi.itzi.posts.domain.Status;
 import com.itzi.itzi.posts.domain.Type;
@@ -9,6 +10,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Getter
 @Builder
@@ -26,7 +28,8 @@ public class PostListResponse {
     private LocalDate exposureEndDate;
     private Long bookmarkCount;
 
-    private String postImageUrl;
+    private String postImageUrl;            // 카드뷰 크기 변형 (아직 없으면 원본)
+    private String thumbnailUrl;            // 정사각 썸네일 (아직 없으면 카드/원본)
     private String title;
     private String target;
     private LocalDate startDate;
@@ -37,6 +40,22 @@ public class PostListResponse {
     private boolean periodNegotiable;
     private boolean benefitNegotiable;
 
-
+    private LocalDateTime publishedAt;
+
+    // 인기순 커서 값 (응답에는 노출 X)
+    @JsonIgnore
+    private Double popularScore;
+
+    // 목록 조회 생성자 프로젝션용 (작성자 관심 카테고리를 같은 쿼리에서 조인해 가져옴)
+    public PostListResponse(Long postId, Long userId, Category interest, Type type, Status status,
+                            LocalDate exposureEndDate, Long bookmarkCount,
+                            String postImageUrl, String thumbnailUrl, String title, String target,
+                            LocalDate startDate, LocalDate endDate, String benefit,
+                            boolean targetNegotiable, boolean periodNegotiable, boolean benefitNegotiable,
+                            LocalDateTime publishedAt, Double popularScore) {
+        this(postId, userId, interest != null ? interest.getDescription() : null, type, status,
+                exposureEndDate, bookmarkCount, postImageUrl, thumbnailUrl, title, target, startDate, endDate, benefit,
+                targetNegotiable, periodNegotiable, benefitNegotiable, publishedAt, popularScore);
+    }
 
 }
\ No newline at end of file
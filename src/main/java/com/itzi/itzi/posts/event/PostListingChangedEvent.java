@@ -0,0 +1,8 @@
+package com.itzi.itzi.posts.event;
+
+import com.itzi.itzi.posts.domain.Type;
+
+// 공개 목록에 보이는 게시글이 바뀜 (게시, 재게시, 삭제) → 목록 캐시 무효화
+// type이 null이면 모든 목록 캐시를 비움
+public record PostListingChangedEvent(Long postId, Type type) {
+}
@@ -0,0 +1,27 @@
+package com.itzi.itzi.posts.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/*
+ MySQL FULLTEXT 검색 함수 등록 (META-INF/services 로 Hibernate에 등록)
+ - match_against(title, target, benefit, content, :query)
+   → MATCH(...) AGAINST (? IN BOOLEAN MODE), 관련도 점수(0 이면 불일치) 반환
+ - 컬럼 순서는 ft_post_search 인덱스 컬럼 순서와 같아야 인덱스를 탐
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1, ?2, ?3, ?4) against (?5 in boolean mode)",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
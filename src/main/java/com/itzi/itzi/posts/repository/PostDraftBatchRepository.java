@@ -0,0 +1,98 @@
+package com.itzi.itzi.posts.repository;
+
+import com.itzi.itzi.posts.domain.Post;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/*
+ AI 배치 생성 초안 일괄 저장
+ - post_id가 IDENTITY라 Hibernate는 insert를 배치로 묶지 못함 → JDBC batch insert 한 번으로 저장
+   (rewriteBatchedStatements=true 면 드라이버가 multi-row insert 한 문장으로 보냄)
+ - 생성된 post_id, created_at/updated_at을 엔티티에 채워 돌려줌 (영속성 컨텍스트에는 올리지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostDraftBatchRepository {
+
+    private static final String INSERT_SQL = """
+            insert into post (user_id, org_id, post_type, status, post_image, title, target,
+                              start_date, end_date, benefit, `condition`, content, exposure_end_date,
+                              target_negotiable, period_negotiable, benefit_negotiable, condition_negotiable,
+                              bookmark_count, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void insertDrafts(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Post post = posts.get(i);
+                        ps.setLong(1, post.getUser().getUserId());
+                        ps.setLong(2, post.getOrgProfile().getOrgId());
+                        ps.setString(3, post.getType().name());
+                        ps.setString(4, post.getStatus().name());
+                        ps.setString(5, post.getPostImage());
+                        ps.setString(6, post.getTitle());
+                        ps.setString(7, post.getTarget());
+                        ps.setObject(8, toDate(post.getStartDate()), Types.DATE);
+                        ps.setObject(9, toDate(post.getEndDate()), Types.DATE);
+                        ps.setString(10, post.getBenefit());
+                        ps.setString(11, post.getCondition());
+                        ps.setString(12, post.getContent());
+                        ps.setObject(13, toDate(post.getExposureEndDate()), Types.DATE);
+                        ps.setBoolean(14, post.isTargetNegotiable());
+                        ps.setBoolean(15, post.isPeriodNegotiable());
+                        ps.setBoolean(16, post.isBenefitNegotiable());
+                        ps.setBoolean(17, post.isConditionNegotiable());
+                        ps.setTimestamp(18, Timestamp.valueOf(now));
+                        ps.setTimestamp(19, Timestamp.valueOf(now));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return posts.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < posts.size(); i++) {
+            Post post = posts.get(i);
+            post.setPostId(((Number) keys.get(i).values().iterator().next()).longValue());
+            post.setCreatedAt(now);
+            post.setUpdatedAt(now);
+        }
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date == null ? null : Date.valueOf(date);
+    }
+}
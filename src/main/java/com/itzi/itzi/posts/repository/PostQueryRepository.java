@@ -0,0 +1,25 @@
+package com.itzi.itzi.posts.repository;
+
+import com.itzi.itzi.posts.domain.Post;
+import com.itzi.itzi.posts.dto.response.PostListResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+// 카드뷰 목록 조회 전용: Specification 조건을 그대로 쓰되 엔티티 대신 PostListResponse로 바로 프로젝션
+public interface PostQueryRepository {
+
+    // 정렬 + 개수 제한 (count 쿼리 없음)
+    List<PostListResponse> findListResponses(Specification<Post> spec, Sort sort, int limit);
+
+    // 오프셋 페이지 조회
+    Page<PostListResponse> findListResponses(Specification<Post> spec, Pageable pageable);
+
+    // 키워드 검색 결과를 관련도순(동점이면 최신 postId 먼저)으로 조회
+    List<PostListResponse> searchListResponses(Specification<Post> spec, String booleanQuery, long offset, int limit);
+
+    Page<PostListResponse> searchListResponses(Specification<Post> spec, String booleanQuery, Pageable pageable);
+}
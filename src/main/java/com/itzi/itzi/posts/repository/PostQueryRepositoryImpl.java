@@ -0,0 +1,127 @@
+package com.itzi.itzi.posts.repository;
+
+import com.itzi.itzi.auth.domain.User;
+import com.itzi.itzi.posts.domain.Post;
+import com.itzi.itzi.posts.dto.response.PostListResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PostQueryRepositoryImpl implements PostQueryRepository {
+
+    private final EntityManager em;
+
+    @Override
+    public List<PostListResponse> findListResponses(Specification<Post> spec, Sort sort, int limit) {
+        return createListQuery(spec, sort, null)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Page<PostListResponse> findListResponses(Specification<Post> spec, Pageable pageable) {
+        List<PostListResponse> content = createListQuery(spec, pageable.getSort(), null)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // 첫 페이지가 꽉 차지 않으면 count 쿼리 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<PostListResponse> searchListResponses(Specification<Post> spec, String booleanQuery, long offset, int limit) {
+        return createListQuery(spec, Sort.unsorted(), booleanQuery)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Page<PostListResponse> searchListResponses(Specification<Post> spec, String booleanQuery, Pageable pageable) {
+        List<PostListResponse> content = searchListResponses(spec, booleanQuery, pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    /*
+     select new PostListResponse(p.postId, u.userId, u.interest, ...)
+     from Post p join p.user u
+     where {spec}
+     order by {sort} 또는 관련도 desc, postId desc (검색 시)
+     → 작성자(User)를 게시글마다 지연 로딩하지 않고 한 번의 쿼리로 조회
+     */
+    private TypedQuery<PostListResponse> createListQuery(Specification<Post> spec, Sort sort, String booleanQuery) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<PostListResponse> query = cb.createQuery(PostListResponse.class);
+        Root<Post> root = query.from(Post.class);
+        Join<Post, User> user = root.join("user");
+
+        query.select(cb.construct(PostListResponse.class,
+                root.get("postId"),
+                user.get("userId"),
+                user.get("interest"),
+                root.get("type"),
+                root.get("status"),
+                root.get("exposureEndDate"),
+                root.get("bookmarkCount"),
+                cb.coalesce(root.<String>get("postImageCard"), root.<String>get("postImage")),
+                cb.<String>coalesce()
+                        .value(root.get("postImageThumbnail"))
+                        .value(root.get("postImageCard"))
+                        .value(root.get("postImage")),
+                root.get("title"),
+                root.get("target"),
+                root.get("startDate"),
+                root.get("endDate"),
+                root.get("benefit"),
+                root.get("targetNegotiable"),
+                root.get("periodNegotiable"),
+                root.get("benefitNegotiable"),
+                root.get("publishedAt"),
+                root.get("popularScore")
+        ));
+
+        Predicate where = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        if (booleanQuery != null) {
+            query.orderBy(
+                    cb.desc(PostSpecifications.relevance(root, cb, booleanQuery)),
+                    cb.desc(root.get("postId"))
+            );
+        } else if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return em.createQuery(query);
+    }
+
+    private long count(Specification<Post> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Post> root = query.from(Post.class);
+
+        Predicate where = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.select(cb.count(root));
+
+        return em.createQuery(query).getSingleResult();
+    }
+}
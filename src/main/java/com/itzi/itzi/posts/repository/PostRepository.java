@@ -4,20 +4,22 @@ import com.itzi.itzi.auth.domain.OrgType;
 import com.itzi.itzi.posts.domain.Post;
 import com.itzi.itzi.posts.domain.Status;
 import com.itzi.itzi.posts.domain.Type;
+import com.itzi.itzi.posts.dto.response.PostListResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post>, PostQueryRepository {
 
     // 내 글 + 타입 + 상태 필터
     List<Post> findByUser_UserIdAndTypeAndStatusIn(
@@ -26,20 +28,31 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
             Collection<Status> statuses
     );
 
+    // 내 글 카드뷰 목록: 작성자 관심 카테고리까지 한 번에 프로젝션
+    @Query("""
+      select new com.itzi.itzi.posts.dto.response.PostListResponse(
+          p.postId, u.userId, u.interest, p.type, p.status,
+          p.exposureEndDate, p.bookmarkCount,
+          coalesce(p.postImageCard, p.postImage),
+          coalesce(p.postImageThumbnail, p.postImageCard, p.postImage),
+          p.title, p.target,
+          p.startDate, p.endDate, p.benefit,
+          p.targetNegotiable, p.periodNegotiable, p.benefitNegotiable,
+          p.publishedAt, p.popularScore)
+      from Post p
+      join p.user u
+      where u.userId = :userId and p.type = :type and p.status in :statuses
+    """)
+    List<PostListResponse> findListResponsesByUser(@Param("userId") Long userId,
+                                                   @Param("type") Type type,
+                                                   @Param("statuses") Collection<Status> statuses);
+
     // postId와 type으로 게시글을 찾는 메서드 추가
     Optional<Post> findByPostIdAndType(Long postId, Type type);
 
     // Agreement ID와 Type으로 게시글을 찾는 메서드 추가
     Optional<Post> findByAgreement_AgreementIdAndType(Long agreementId, Type type);
 
-    // 모든 사용자가 작성한 제휴 모집글 필터링 조회 : 인기순, 최신순, 오래된순
-    List<Post> findByTypeInAndStatus(List<Type> types, Status status, Sort sort);
-
-    // 모든 사용자가 작성한 제휴 모집글 필터링 조회 : 마감 임박순
-    List<Post> findByTypeInAndStatusAndExposureEndDateGreaterThanEqual(
-            List<Type> types, Status status, LocalDate today, Sort sort
-    );
-
     // OrgProfile의 OrgType에 따라 게시글을 필터링하여 페이징 조회
     @Query("select p from Post p join p.user u join u.orgProfile o where o.orgType = :orgType")
     Page<Post> findByUser_OrgProfile_OrgType(@Param("orgType") OrgType orgType, Pageable pageable);
@@ -59,4 +72,51 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
     """)
     Optional<Post> findRecruitingDetailWithAuthor(@Param("postId") Long postId,
                                                   @Param("type") Type type);
+
+    /*
+     제휴 홍보글 상세 조회: 한 번의 쿼리로
+     1. Post + 작성자(User)
+     2. 연결된 Agreement + 제안자(sender) / 대상자(receiver)
+     3. 세 사용자의 OrgProfile, Store (User 쪽 @OneToOne(mappedBy)는 지연 로딩이 안 되므로 fetch join 필수)
+     를 모두 패치
+     */
+    @Query("""
+      select p
+      from Post p
+      join fetch p.user u
+      left join fetch u.orgProfile
+      left join fetch u.store
+      left join fetch p.agreement a
+      left join fetch a.sender s
+      left join fetch s.orgProfile
+      left join fetch s.store
+      left join fetch a.receiver r
+      left join fetch r.orgProfile
+      left join fetch r.store
+      where p.postId = :postId
+    """)
+    Optional<Post> findPromotionDetail(@Param("postId") Long postId);
+
+    // 노출 종료일이 지난 게시글을 최대 chunkSize건 EXPIRED로 변경 (타입별로 (post_type, status, exposure_end_date) 인덱스 범위만 읽음)
+    // 한 번에 모두 바꾸면 잠금이 길어지므로 호출마다 별도 트랜잭션으로 나눠서 처리
+    @Transactional
+    @Modifying
+    @Query(value = """
+      update post
+      set status = 'EXPIRED', updated_at = now(6)
+      where post_type = :type and status = 'PUBLISHED' and exposure_end_date < :today
+      limit :chunkSize
+      """, nativeQuery = true)
+    int expirePublished(@Param("type") String type, @Param("today") LocalDate today, @Param("chunkSize") int chunkSize);
+
+    // 이미지 변형 URL 반영 (생성하는 동안 원본이 바뀌었으면 0건 → 호출 측에서 변형 삭제)
+    @Transactional
+    @Modifying
+    @Query("""
+      update Post p
+      set p.postImageThumbnail = :thumbnail, p.postImageCard = :card
+      where p.postId = :postId and p.postImage = :original
+    """)
+    int updateImageVariants(@Param("postId") Long postId, @Param("original") String original,
+                            @Param("thumbnail") String thumbnail, @Param("card") String card);
 }
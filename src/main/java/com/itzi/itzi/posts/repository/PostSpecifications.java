@@ -0,0 +1,104 @@
+package com.itzi.itzi.posts.repository;
+
+import com.itzi.itzi.auth.domain.Category;
+import com.itzi.itzi.posts.domain.Post;
+import com.itzi.itzi.posts.domain.PostSortKey;
+import com.itzi.itzi.posts.domain.Status;
+import com.itzi.itzi.posts.domain.Type;
+import com.itzi.itzi.posts.service.PostCursor;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+// 게시글 목록 조회용 공통 Specification (null 반환 시 Specification.allOf에서 조건 생략)
+public final class PostSpecifications {
+
+    private PostSpecifications() {
+    }
+
+    // type IN (...)
+    public static Specification<Post> typeIn(Collection<Type> types) {
+        return (root, query, cb) -> root.get("type").in(types);
+    }
+
+    // status = ?
+    public static Specification<Post> statusIs(Status status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    // 카테고리 필터: null/빈 목록 → 전체 조회
+    public static Specification<Post> categoryIn(@Nullable Collection<Category> categories) {
+        if (categories == null || categories.isEmpty()) return null;
+        return (root, query, cb) -> root.get("category").in(categories);
+    }
+
+    // 키워드 검색: 제목/대상/혜택/본문 FULLTEXT 일치 (null/빈 키워드 → 조건 생략)
+    public static Specification<Post> matchesKeyword(@Nullable String keyword) {
+        String query = toBooleanQuery(keyword);
+        if (query == null) return null;
+        return (root, q, cb) -> cb.greaterThan(relevance(root, cb, query), 0.0);
+    }
+
+    // 검색 관련도 점수 (정확도순 정렬에 사용)
+    public static Expression<Double> relevance(Root<Post> root, CriteriaBuilder cb, String booleanQuery) {
+        return cb.function(FullTextFunctionContributor.MATCH_AGAINST, Double.class,
+                root.get("title"), root.get("target"), root.get("benefit"), root.get("content"),
+                cb.literal(booleanQuery));
+    }
+
+    /*
+     사용자 입력 → BOOLEAN MODE 검색어
+     - 연산자(+ - < > ( ) ~ * " @)는 문법 오류를 막기 위해 공백 처리
+     - 남은 단어는 OR 검색되고 관련도 순으로 정렬됨 (ngram 파서가 단어를 2글자 단위로 분해)
+     */
+    public static String toBooleanQuery(@Nullable String keyword) {
+        if (keyword == null) return null;
+        String cleaned = keyword.replaceAll("[+\\-<>()~*\"@]", " ").trim().replaceAll("\\s+", " ");
+        return cleaned.isEmpty() ? null : cleaned;
+    }
+
+    /*
+     키셋 조건: 커서 위치 "다음" 행만 조회
+     - ASC  : (key > v) OR (key = v AND postId > id)
+     - DESC : (key < v) OR (key = v AND postId < id) OR key IS NULL
+     - 정렬 값이 NULL인 행은 MySQL 정렬 순서대로 ASC면 맨 앞, DESC면 맨 뒤에 오므로
+       커서 값이 NULL이면 ASC : (key IS NULL AND postId > id) OR key IS NOT NULL
+                        DESC : key IS NULL AND postId < id
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Post> seekAfter(PostSortKey sortKey, Sort.Direction direction, @Nullable PostCursor cursor) {
+        if (cursor == null) return null;
+
+        return (root, query, cb) -> {
+            Path<Comparable> key = root.get(sortKey.getAttribute());
+            Path<Long> postId = root.get("postId");
+            Predicate idAfter = direction.isAscending()
+                    ? cb.greaterThan(postId, cursor.getPostId())
+                    : cb.lessThan(postId, cursor.getPostId());
+
+            if (cursor.isNullSortValue()) {
+                Predicate nullTieBreak = cb.and(cb.isNull(key), idAfter);
+                return direction.isAscending() ? cb.or(nullTieBreak, cb.isNotNull(key)) : nullTieBreak;
+            }
+
+            Comparable value = cursor.sortValueAs(key.getJavaType());
+            Predicate beyond = direction.isAscending()
+                    ? cb.greaterThan(key, value)
+                    : cb.or(cb.lessThan(key, value), cb.isNull(key));
+            Predicate tieBreak = cb.and(cb.equal(key, value), idAfter);
+            return cb.or(beyond, tieBreak);
+        };
+    }
+
+    // 정렬 키 + postId 보조 정렬 (동일 값일 때 순서 고정)
+    public static Sort seekSort(PostSortKey sortKey, Sort.Direction direction) {
+        return Sort.by(direction, sortKey.getAttribute()).and(Sort.by(direction, "postId"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.itzi.itzi.posts.service;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import com.itzi.itzi.posts.domain.OrderBy;
+import com.itzi.itzi.posts.domain.PostSortKey;
+import com.itzi.itzi.posts.dto.response.PostListResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/*
+ 키셋(seek) 페이지네이션 커서
+ - 마지막으로 내려준 게시글의 (정렬 값, postId)를 "ORDER|value|postId" 형태로 묶어 Base64URL 인코딩
+ - 클라이언트는 값을 해석하지 않고 그대로 다음 요청의 cursor 파라미터로 돌려줌
+ - 정렬 값이 NULL인 행(종료일 없는 모집글 등)은 값 자리를 비워서("ORDER||postId") 인코딩
+   → PostSpecifications.seekAfter가 MySQL 정렬 순서(NULL이 가장 작은 값)대로 이어서 조회
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+    private static final String NULL_VALUE = "";
+
+    private final OrderBy orderBy;
+    private final String sortValue;
+    private final Long postId;
+
+    public static String encode(OrderBy orderBy, Object sortValue, Long postId) {
+        String value = sortValue == null ? NULL_VALUE : sortValue.toString();
+        String raw = orderBy.name() + DELIMITER + value + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 목록 응답의 마지막 행으로 다음 커서 생성 (정렬 컬럼 값 + postId)
+    public static String encode(OrderBy orderBy, PostSortKey sortKey, PostListResponse last) {
+        return encode(orderBy, sortValueOf(sortKey, last), last.getPostId());
+    }
+
+    private static Object sortValueOf(PostSortKey sortKey, PostListResponse post) {
+        return switch (sortKey) {
+            case EXPOSURE_END_DATE -> post.getExposureEndDate();
+            case END_DATE -> post.getEndDate();
+            case PUBLISHED_AT -> post.getPublishedAt();
+            case POPULAR_SCORE -> post.getPopularScore();
+        };
+    }
+
+    // 커서가 없으면 첫 페이지(null), 다른 정렬 기준에서 발급된 커서는 거부
+    public static PostCursor decode(String token, OrderBy orderBy) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 3 || !orderBy.name().equals(parts[0])) {
+                throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+            }
+            return new PostCursor(orderBy, parts[1], Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new GeneralException(ErrorStatus.INVALID_CURSOR, e.getMessage());
+        }
+    }
+
+    // 정확도순(RELEVANCE) 커서는 관련도 점수 대신 다음 오프셋을 담음 (검색 결과는 깊게 넘기지 않으므로)
+    public long getOffset() {
+        long offset = (Long) sortValueAs(Long.class);
+        if (offset < 0) {
+            throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+        }
+        return offset;
+    }
+
+    // 마지막 행의 정렬 값이 NULL이었는지
+    public boolean isNullSortValue() {
+        return NULL_VALUE.equals(sortValue);
+    }
+
+    // 정렬 컬럼 타입에 맞게 커서 값을 변환 (NULL 커서는 isNullSortValue로 먼저 분기)
+    public Comparable<?> sortValueAs(Class<?> type) {
+        if (isNullSortValue()) {
+            throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+        }
+        try {
+            if (type == LocalDate.class) return LocalDate.parse(sortValue);
+            if (type == LocalDateTime.class) return LocalDateTime.parse(sortValue);
+            if (type == Long.class || type == long.class) return Long.valueOf(sortValue);
+            if (type == Double.class || type == double.class) return Double.valueOf(sortValue);
+        } catch (RuntimeException e) {
+            throw new GeneralException(ErrorStatus.INVALID_CURSOR, e.getMessage());
+        }
+        throw new GeneralException(ErrorStatus.INVALID_CURSOR, "지원하지 않는 정렬 컬럼 타입입니다: " + type.getSimpleName());
+    }
+}
@@ -0,0 +1,60 @@
+package com.itzi.itzi.posts.service;
+
+import com.itzi.itzi.global.config.TimeConfig;
+import com.itzi.itzi.posts.domain.Type;
+import com.itzi.itzi.posts.event.PostListingChangedEvent;
+import com.itzi.itzi.posts.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/*
+ 노출 종료일이 지난 게시글을 EXPIRED로 전환하는 배치
+ - 매일 자정(서울 기준) + 기동 직후(꺼져 있던 동안 놓친 전환 보정) 실행
+ - chunk-size 건씩 나눠서 UPDATE (건마다 짧은 트랜잭션)
+ - 목록 조회는 status = PUBLISHED 조건만 쓰고, 목록 캐시도 여기서 하루 한 번만 비움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostExpirySweeper {
+
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    @Value("${post.expiry.chunk-size:1000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void sweepOnStartup() {
+        sweep();
+    }
+
+    @Scheduled(cron = "${post.expiry.cron:0 0 0 * * *}", zone = TimeConfig.ZONE_ID)
+    public void sweep() {
+        LocalDate today = LocalDate.now(clock);
+        int total = 0;
+
+        for (Type type : Type.values()) {
+            int updated;
+            do {
+                updated = postRepository.expirePublished(type.name(), today, chunkSize);
+                total += updated;
+            } while (updated == chunkSize);
+        }
+
+        if (total > 0) {
+            log.info("Expired {} posts with exposureEndDate before {}", total, today);
+            eventPublisher.publishEvent(new PostListingChangedEvent(null, null));
+        }
+    }
+}
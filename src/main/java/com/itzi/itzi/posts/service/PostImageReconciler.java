@@ -0,0 +1,124 @@
+package com.itzi.itzi.posts.service;
+
+import com.itzi.itzi.global.s3.ImageCleanupOutbox;
+import com.itzi.itzi.global.s3.ImageVariants;
+import com.itzi.itzi.global.s3.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ 고아 이미지 정리 (하루 한 번)
+ - 버킷의 images/ 객체 중 어떤 게시글(원본/썸네일/카드)도 가리키지 않는 것을 찾아 ImageCleanupOutbox에 등록
+   (롤백된 요청이 남긴 업로드, 게시글에 붙이지 않은 직접 업로드, 예전 삭제 버그로 남은 객체 등)
+ - orphan-grace보다 최근에 올라온 객체는 제외 → 아직 커밋 전이거나 게시글에 붙이기 전인 업로드를 지우지 않음
+   (직접 업로드 키는 max-attach-age가 지나면 붙일 수 없으므로 grace는 그보다 길어야 함)
+ - 삭제된(DELETED) 게시글의 이미지도 참조로 취급해서 남겨 둠
+ - 사용자 프로필/가게 이미지로 쓰이는 객체도 남겨 둠 (/uploads/images로 올린 URL을 프로필에 넣은 경우)
+ - 참조 중인 원본의 변형(-thumb.jpg, -card.jpg)은 게시글 컬럼에 아직 반영 전이어도 남겨 둠
+ - 등록 후 실제 삭제 직전에 워커가 참조 수(image_reference)를 다시 확인하므로 그 사이 다시 붙은 이미지는 지워지지 않음
+ */
+@Slf4j
+@Component
+public class PostImageReconciler {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final S3Service s3Service;
+    private final ImageCleanupOutbox imageCleanupOutbox;
+    private final Duration orphanGrace;
+    private final boolean enabled;
+
+    public PostImageReconciler(JdbcTemplate jdbcTemplate,
+                               S3Service s3Service,
+                               ImageCleanupOutbox imageCleanupOutbox,
+                               @Value("${image.cleanup.orphan-grace:24h}") Duration orphanGrace,
+                               @Value("${image.cleanup.reconcile-enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.s3Service = s3Service;
+        this.imageCleanupOutbox = imageCleanupOutbox;
+        this.orphanGrace = orphanGrace;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(cron = "${image.cleanup.reconcile-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        // 목록을 읽기 전에 참조 집합을 만들어야 그 사이 새로 붙은 이미지(= grace 이내)만 빠짐
+        Set<String> keep = referencedKeys();
+        Instant threshold = Instant.now().minus(orphanGrace);
+
+        List<String> orphans = new ArrayList<>();
+        int scanned = 0;
+        int total = 0;
+        for (S3Object object : s3Service.listImageObjects()) {
+            scanned++;
+            if (object.lastModified().isAfter(threshold) || keep.contains(object.key())
+                    || keep.contains(ImageVariants.originalKeyOf(object.key()))) {
+                continue;
+            }
+            orphans.add(object.key());
+            if (orphans.size() == S3Service.MAX_DELETE_BATCH) {
+                total += enqueueOrphans(orphans);
+                orphans.clear();
+            }
+        }
+        total += enqueueOrphans(orphans);
+
+        log.info("[PostImageReconciler] 이미지 {}개 중 고아 {}개 정리 예약", scanned, total);
+    }
+
+    // 이미 삭제 예약된 키는 빼고 등록 (예약 목록 전체를 읽지 않고 이번 묶음의 키만 조회)
+    private int enqueueOrphans(List<String> orphans) {
+        Set<String> pending = imageCleanupOutbox.pendingAmong(orphans);
+        List<String> keys = orphans.stream().filter(key -> !pending.contains(key)).toList();
+        imageCleanupOutbox.enqueueKeys(keys);
+        return keys.size();
+    }
+
+    // 게시글이 가리키는 모든 이미지 키 (원본 + 변형) + 프로필/가게 이미지 + 참조 수가 남은 키, 행 단위로 읽어서 키만 보관
+    private Set<String> referencedKeys() {
+        Set<String> keys = new HashSet<>();
+        jdbcTemplate.query("""
+                        select post_image, post_image_thumbnail, post_image_card
+                        from post
+                        where post_image is not null
+                        """,
+                (RowCallbackHandler) rs -> {
+                    for (int column = 1; column <= 3; column++) {
+                        String key = s3Service.keyOf(rs.getString(column));
+                        if (key != null) {
+                            keys.add(key);
+                        }
+                    }
+                });
+        // 프로필/가게 이미지는 클라이언트가 넣은 URL이라 이 버킷의 images/ 객체(직접 업로드 등)를 가리킬 수 있음
+        jdbcTemplate.query("""
+                        select profile_image from user where profile_image like '%/images/%'
+                        union all
+                        select store_image from store where store_image like '%/images/%'
+                        """,
+                (RowCallbackHandler) rs -> {
+                    String key = s3Service.keyOf(rs.getString(1));
+                    if (key != null) {
+                        keys.add(key);
+                    }
+                });
+        keys.addAll(jdbcTemplate.queryForList(
+                "select object_key from image_reference where ref_count > 0", String.class));
+        return keys;
+    }
+}
@@ -0,0 +1,112 @@
+package com.itzi.itzi.posts.service;
+
+import com.itzi.itzi.global.s3.ImageCleanupOutbox;
+import com.itzi.itzi.global.s3.ImageVariants;
+import com.itzi.itzi.global.s3.S3Service;
+import com.itzi.itzi.posts.domain.Post;
+import com.itzi.itzi.posts.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.InputStream;
+
+/*
+ 게시글 이미지 변형(썸네일, 카드뷰) 비동기 생성
+ 1) 이미지가 바뀌면 기존 변형 URL을 비우고, 트랜잭션 커밋 후 작업 예약 (롤백되면 생성 X)
+ 2) imageVariantExecutor에서 원본을 S3에서 읽어 변형 생성 → <원본 키>-thumb.jpg, <원본 키>-card.jpg 업로드
+    같은 내용의 원본을 쓰는 다른 게시글이 이미 만든 변형이 있으면 다시 만들지 않고 재사용
+ 3) 그 사이 원본이 또 바뀌지 않았을 때만 post에 반영, 바뀌었으면 방금 만든 변형 삭제 예약
+ - 기존 변형은 다른 게시글과 공유할 수 있으므로 여기서 지우지 않음 → 원본 참조 수가 0이 되면 함께 삭제 (ImageStore)
+ - 실패하거나 큐가 가득 차도 목록은 원본 URL로 대체되므로 요청은 실패시키지 않음
+ */
+@Slf4j
+@Service
+public class PostImageVariantService {
+
+    private final S3Service s3Service;
+    private final PostRepository postRepository;
+    private final ImageCleanupOutbox imageCleanupOutbox;
+    private final ThreadPoolTaskExecutor imageVariantExecutor;
+
+    public PostImageVariantService(S3Service s3Service,
+                                   PostRepository postRepository,
+                                   ImageCleanupOutbox imageCleanupOutbox,
+                                   @Qualifier("imageVariantExecutor") ThreadPoolTaskExecutor imageVariantExecutor) {
+        this.s3Service = s3Service;
+        this.postRepository = postRepository;
+        this.imageCleanupOutbox = imageCleanupOutbox;
+        this.imageVariantExecutor = imageVariantExecutor;
+    }
+
+    // handleImageUpload에서 postImage를 바꾼 직후 호출 (트랜잭션 안에서 호출해야 postId가 확정된 뒤 작업이 예약됨)
+    public void onImageChanged(Post post) {
+        post.setPostImageThumbnail(null);
+        post.setPostImageCard(null);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.warn("이미지 변형은 트랜잭션 안에서만 예약됩니다. postId={}", post.getPostId());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(post.getPostId(), post.getPostImage());
+            }
+        });
+    }
+
+    private void submit(Long postId, String originalUrl) {
+        if (postId == null || originalUrl == null || originalUrl.isBlank()) {
+            return;
+        }
+        try {
+            imageVariantExecutor.execute(() -> generate(postId, originalUrl));
+        } catch (TaskRejectedException e) {
+            log.warn("이미지 변형 작업 큐가 가득 찼습니다. 원본을 그대로 사용합니다. postId={}", postId);
+        }
+    }
+
+    void generate(Long postId, String originalUrl) {
+        try {
+            String key = s3Service.keyOf(originalUrl);
+            if (key == null) {
+                // 이 버킷의 이미지가 아님 (외부 URL)
+                return;
+            }
+
+            String thumbnailKey = key + ImageVariants.THUMBNAIL_SUFFIX;
+            String cardKey = key + ImageVariants.CARD_SUFFIX;
+            String thumbnailUrl;
+            String cardUrl;
+            if (s3Service.exists(thumbnailKey) && s3Service.exists(cardKey)) {
+                // 같은 원본을 쓰는 게시글이 이미 만든 변형
+                thumbnailUrl = s3Service.urlOf(thumbnailKey);
+                cardUrl = s3Service.urlOf(cardKey);
+            } else {
+                ImageVariants.Result variants;
+                try (InputStream in = s3Service.openObject(key)) {
+                    variants = ImageVariants.create(in);
+                }
+                if (variants == null) {
+                    log.info("이미지 변형을 만들 수 없는 형식입니다. postId={}, key={}", postId, key);
+                    return;
+                }
+
+                thumbnailUrl = s3Service.putObject(thumbnailKey, variants.thumbnail(), ImageVariants.CONTENT_TYPE);
+                cardUrl = s3Service.putObject(cardKey, variants.card(), ImageVariants.CONTENT_TYPE);
+            }
+
+            if (postRepository.updateImageVariants(postId, originalUrl, thumbnailUrl, cardUrl) == 0) {
+                // 생성하는 동안 이미지가 교체/삭제됨 (다른 게시글이 같은 원본을 쓰고 있으면 워커가 지우지 않음)
+                imageCleanupOutbox.enqueue(thumbnailUrl, cardUrl);
+            }
+        } catch (Exception e) {
+            log.warn("이미지 변형 생성 실패. postId={}, url={}", postId, originalUrl, e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.itzi.itzi.posts.service;
+
+import com.itzi.itzi.posts.domain.Type;
+import com.itzi.itzi.posts.event.PostListingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+ 공개 목록(/promotion/all, /recruiting) 캐시
+ - 캐시 자체는 Caffeine (application.yml spring.cache), 키는 목록 조회 파라미터 전체
+ - 게시/재게시/삭제 트랜잭션이 커밋된 뒤 해당 타입의 목록 캐시를 통째로 비움
+   (어느 페이지에 끼어드는지 알 수 없으므로 키 단위가 아닌 캐시 단위로 무효화)
+ - 북마크 수/인기순 점수, 마감일 경과처럼 이벤트 없이 바뀌는 값은 TTL(expireAfterWrite)로만 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostListingCache {
+
+    public static final String PROMOTION_LISTINGS = "promotionListings";
+    public static final String RECRUITING_LISTINGS = "recruitingListings";
+
+    private final CacheManager cacheManager;
+
+    // 트랜잭션 밖에서 발행된 경우에도 바로 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostListingChanged(PostListingChangedEvent event) {
+        Type type = event.type();
+
+        if (type == null || type == Type.BENEFIT || type == Type.PROMOTION) {
+            clear(PROMOTION_LISTINGS);
+        }
+        if (type == null || type == Type.RECRUITING) {
+            clear(RECRUITING_LISTINGS);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+            log.debug("Cleared {} cache", cacheName);
+        }
+    }
+}
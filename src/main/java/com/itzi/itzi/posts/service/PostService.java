@@ -6,31 +6,36 @@ import com.itzi.itzi.auth.domain.User;
 import com.itzi.itzi.auth.repository.UserRepository;
 import com.itzi.itzi.global.api.code.ErrorStatus;
 import com.itzi.itzi.global.exception.GeneralException;
-import com.itzi.itzi.global.s3.S3Service;
+import com.itzi.itzi.global.s3.ImageStore;
 import com.itzi.itzi.posts.domain.OrderBy;
 import com.itzi.itzi.posts.domain.Post;
+import com.itzi.itzi.posts.domain.PostSortKey;
 import com.itzi.itzi.posts.domain.Status;
 import com.itzi.itzi.posts.domain.Type;
 import com.itzi.itzi.posts.dto.response.*;
 import com.itzi.itzi.posts.repository.PostRepository;
+import com.itzi.itzi.posts.repository.PostSpecifications;
 import com.itzi.itzi.posts.dto.request.PostDraftSaveRequest;
+import com.itzi.itzi.posts.event.PostListingChangedEvent;
 import com.itzi.itzi.recruitings.dto.response.AuthorSummaryResponse;
 import com.itzi.itzi.recruitings.dto.response.StoreSummaryResponse;
 import com.itzi.itzi.store.domain.Store;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,7 +44,13 @@ import java.util.stream.Collectors;
 public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final S3Service s3Service;
+    private final PostImageVariantService postImageVariantService;
+    private final ImageStore imageStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    // 목록 조회 한 번에 내려줄 수 있는 최대 게시글 수
+    public static final int MAX_PAGE_SIZE = 50;
 
     // 제휴 홍보글 삭제하기
     @Transactional
@@ -56,6 +67,7 @@ public class PostService {
 
         post.setStatus(Status.DELETED);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostListingChangedEvent(post.getPostId(), post.getType()));
 
         return new PostDeleteResponse(
                 post.getType(),
@@ -89,11 +101,17 @@ public class PostService {
             throw new GeneralException(ErrorStatus.REQUIRED_FIELD_MISSING);
         }
 
+        // 노출 종료일이 지난 글은 게시 불가 (게시되자마자 만료 대상, 만료 배치와 같은 서울 기준 날짜)
+        if (post.getExposureEndDate().isBefore(LocalDate.now(clock))) {
+            throw new GeneralException(ErrorStatus.DATE_RANGE_INVALID, "노출 종료일이 이미 지났습니다.");
+        }
+
         // 게시 상태로 변경 및 생성 시간 업데이트
         post.setStatus(Status.PUBLISHED);
         post.setPublishedAt(LocalDateTime.now());
 
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostListingChangedEvent(post.getPostId(), post.getType()));
 
         return new PostPublishResponse(
                 post.getType(),
@@ -126,7 +144,7 @@ public class PostService {
 
             // 2) 부분 업데이트(널이면 무시, 값이 있으면 반영)
             applyPatch(post, request);
-            handleImageUpload(post, request.getPostImage());
+            handleImageUpload(post, request.getPostImage(), request.getPostImageKey());
 
         } else {
 
@@ -142,7 +160,7 @@ public class PostService {
                     .bookmarkCount(0L)
                     .build();
             applyPatch(post, request);
-            handleImageUpload(post, request.getPostImage());
+            handleImageUpload(post, request.getPostImage(), request.getPostImageKey());
         }
 
         Post saved = postRepository.save(post);
@@ -192,53 +210,99 @@ public class PostService {
     // 공통: 내가 작성한 게시글 전체 리스트 조회
     @Transactional(readOnly = true)
     public List<PostListResponse> getMyPostList(Long userId, List<Status> statuses, Type type) {
-        return postRepository.findByUser_UserIdAndTypeAndStatusIn(userId, type, statuses)
-                .stream()
-                .map(this::toListResponse)
-                .toList();
+        return postRepository.findListResponsesByUser(userId, type, statuses);
     }
 
-    // 공통: 모든 사용자가 작성한 게시글 조회
+    // 공통: 모든 사용자가 작성한 게시글 조회 (커서 기반, DB에서 필터링/정렬/개수 제한)
     @Transactional(readOnly = true)
-    public List<PostListResponse> getAllPostList(List<Type> types, Status status, OrderBy orderBy, @Nullable Predicate<Post> filter) {
+    public PostCursorResponse getAllPostList(List<Type> types, Status status, OrderBy orderBy,
+                                             @Nullable Specification<Post> filter, @Nullable String keyword,
+                                             @Nullable String cursor, int size) {
 
-        List<Post> posts = new ArrayList<>();
-
-        // 기본 정렬 기준: 마감 임박순
-        if (orderBy == null) {
+        // 기본 정렬 기준: 마감 임박순 (검색어 없이 정확도순을 요청한 경우 포함)
+        if (orderBy == null || (orderBy == OrderBy.RELEVANCE && PostSpecifications.toBooleanQuery(keyword) == null)) {
             orderBy = OrderBy.CLOSING;
         }
 
-        switch (orderBy) {
-            case CLOSING -> {
-                LocalDate today = LocalDate.now();
-                posts = postRepository.findByTypeInAndStatusAndExposureEndDateGreaterThanEqual(
-                        types, status, today, Sort.by(Sort.Direction.ASC, "exposureEndDate")
-                );
-            }
+        Specification<Post> spec = Specification.allOf(
+                PostSpecifications.typeIn(types),
+                // 노출 기간이 지난 글은 PostExpirySweeper가 EXPIRED로 바꾸므로 상태 조건만으로 충분
+                PostSpecifications.statusIs(status),
+                filter,
+                PostSpecifications.matchesKeyword(keyword)
+        );
 
-            case POPULAR -> {
-                posts = postRepository.findByTypeInAndStatus(
-                        types, status, Sort.by(Sort.Direction.DESC, "bookmarkCount"));
-            }
+        if (orderBy == OrderBy.RELEVANCE) {
+            return getSearchSlice(spec, keyword, cursor, size);
+        }
 
-            case LATEST -> {
-                posts = postRepository.findByTypeInAndStatus(
-                        types, status, Sort.by(Sort.Direction.DESC, "publishedAt"));
-            }
+        PostSortKey sortKey = switch (orderBy) {
+            case POPULAR -> PostSortKey.POPULAR_SCORE;
+            case LATEST, OLDEST -> PostSortKey.PUBLISHED_AT;
+            default -> PostSortKey.EXPOSURE_END_DATE;
+        };
 
-            case OLDEST -> {
-                posts = postRepository.findByTypeInAndStatus(
-                        types, status, Sort.by(Sort.Direction.ASC, "publishedAt"));
-            }
-        }
+        return getPostSlice(spec, orderBy, sortKey, cursor, size);
+    }
 
-        // 필터링 (기본값: 전체 조회)
-        if (filter != null) {
-            posts = posts.stream().filter(filter).toList();
-        }
+    // 검색 결과 정확도순 조회 (관련도 점수 → 오프셋 커서)
+    @Transactional(readOnly = true)
+    public PostCursorResponse getSearchSlice(Specification<Post> spec, String keyword, @Nullable String cursor, int size) {
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PostCursor current = PostCursor.decode(cursor, OrderBy.RELEVANCE);
+        long offset = current == null ? 0 : current.getOffset();
+
+        List<PostListResponse> rows = postRepository.searchListResponses(
+                spec, PostSpecifications.toBooleanQuery(keyword), offset, limit + 1);
+
+        return toCursorResponse(rows, limit, last -> PostCursor.encode(OrderBy.RELEVANCE, offset + limit, last.getPostId()));
+    }
+
+    /*
+     키셋 페이지네이션 공통 조회
+     - count 쿼리 없이 size + 1건만 조회해서 다음 페이지 존재 여부 판단
+     - 작성자 정보는 같은 쿼리에서 조인해 PostListResponse로 바로 프로젝션 (N+1 X)
+     - 마지막 행의 (정렬 값, postId)로 다음 커서 생성
+     */
+    @Transactional(readOnly = true)
+    public PostCursorResponse getPostSlice(Specification<Post> spec, OrderBy orderBy, PostSortKey sortKey,
+                                           @Nullable String cursor, int size) {
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Sort.Direction direction = directionOf(orderBy);
+
+        Specification<Post> seekSpec = Specification.allOf(
+                spec,
+                PostSpecifications.seekAfter(sortKey, direction, PostCursor.decode(cursor, orderBy))
+        );
+
+        List<PostListResponse> rows = postRepository.findListResponses(
+                seekSpec, PostSpecifications.seekSort(sortKey, direction), limit + 1);
 
-        return posts.stream().map(this::toListResponse).toList();
+        return toCursorResponse(rows, limit,
+                last -> PostCursor.encode(orderBy, sortKey, last));
+    }
+
+    // size + 1건 조회 결과 → 다음 페이지 여부 + 마지막 행 기준 커서
+    private PostCursorResponse toCursorResponse(List<PostListResponse> rows, int limit,
+                                                Function<PostListResponse, String> cursorOf) {
+        boolean hasNext = rows.size() > limit;
+        List<PostListResponse> posts = hasNext ? rows.subList(0, limit) : rows;
+
+        return PostCursorResponse.builder()
+                .content(posts)
+                .size(posts.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(posts.get(posts.size() - 1)) : null)
+                .build();
+    }
+
+    private Sort.Direction directionOf(OrderBy orderBy) {
+        return switch (orderBy) {
+            case CLOSING, OLDEST -> Sort.Direction.ASC;
+            default -> Sort.Direction.DESC;
+        };
     }
 
     // 작성자 정보 요약 생성
@@ -255,6 +319,7 @@ public class PostService {
     private void validateHasAnyDraftField(PostDraftSaveRequest request) {
         boolean hasAny =
                 request.getPostImage() != null && !request.getPostImage().isEmpty() ||
+                        hasText(request.getPostImageKey()) ||
                         hasText(request.getTitle()) ||
                         hasText(request.getTarget()) ||
                         request.getStartDate() != null || request.getEndDate() != null ||
@@ -295,43 +360,20 @@ public class PostService {
     }
 
     // 이미지 업로드/변경
-    public void handleImageUpload(Post entity, MultipartFile file) {
-        if (file == null || file.isEmpty()) return;
-
+    public void handleImageUpload(Post entity, MultipartFile file, String imageKey) {
         try {
-            // 기존 이미지가 존재한다면 삭제
-            if (entity.getPostImage() != null && !entity.getPostImage().isBlank()) {
-                s3Service.deleteImageUrl(entity.getPostImage());
-            }
+            // 직접 업로드한 키가 있으면 키 확인만, 없으면 파일 업로드
+            // 같은 내용의 이미지는 기존 객체 재사용, 기존 이미지는 더 이상 쓰는 게시글이 없을 때만 삭제 예약
+            String uploadUrl = imageStore.attach(file, imageKey, entity.getPostImage());
+            if (uploadUrl == null || uploadUrl.equals(entity.getPostImage())) return;
 
-            String uploadUrl = s3Service.upload(file);
             entity.setPostImage(uploadUrl);
+            postImageVariantService.onImageChanged(entity);
         } catch (IOException e) {
             throw new GeneralException(ErrorStatus.INTERNAL_ERROR, "이미지 업로드에 실패했습니다.");
         }
     }
 
-    private PostListResponse toListResponse(Post post) {
-        return PostListResponse.builder()
-                .postId(post.getPostId())
-                .userId(post.getUser().getUserId())
-                .category(post.getUser().getInterest().getDescription())
-                .type(post.getType())
-                .status(post.getStatus())
-                .exposureEndDate(post.getExposureEndDate())
-                .bookmarkCount(post.getBookmarkCount())
-                .postImageUrl(post.getPostImage())
-                .title(post.getTitle())
-                .target(post.getTarget())
-                .startDate(post.getStartDate())
-                .endDate(post.getEndDate())
-                .benefit(post.getBenefit())
-                .targetNegotiable(post.isTargetNegotiable())
-                .periodNegotiable(post.isPeriodNegotiable())
-                .benefitNegotiable(post.isBenefitNegotiable())
-                .build();
-    }
-
     // 일반 작성자/조직의 요약 정보 생성
     private AuthorSummaryResponse buildAuthorSummary(User author, OrgProfile org) {
         return AuthorSummaryResponse.builder()
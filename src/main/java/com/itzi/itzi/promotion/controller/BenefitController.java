@@ -1,5 +1,10 @@
 package com.itzi.itzi.promotion.controller;
 
+import com.itzi.itzi.global.aijob.AiBatchResponse;
+import com.itzi.itzi.global.aijob.AiJobResponse;
+import com.itzi.itzi.global.aijob.AiJobService;
+import com.itzi.itzi.global.aijob.AiStreamService;
+import com.itzi.itzi.global.aijob.BufferedMultipartFile;
 import com.itzi.itzi.global.api.code.SuccessStatus;
 import com.itzi.itzi.global.api.dto.ApiResponse;
 import com.itzi.itzi.posts.domain.Type;
@@ -12,7 +17,11 @@ import com.itzi.itzi.promotion.dto.response.BenefitGenerateAiResponse;
 import com.itzi.itzi.promotion.service.BenefitService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/benefit")
@@ -21,6 +30,8 @@ import org.springframework.web.bind.annotation.*;
 public class BenefitController {
 
     private final BenefitService benefitService;
+    private final AiJobService aiJobService;
+    private final AiStreamService aiStreamService;
 
     @PostMapping("/ai")
     public ApiResponse<BenefitGenerateAiResponse> generateBenefitAi(
@@ -34,6 +45,49 @@ public class BenefitController {
         return ApiResponse.of(SuccessStatus._OK, response);
     }
 
+    // AI 작성 (비동기): jobId 즉시 반환 → GET /ai/jobs/{jobId} 로 결과 조회
+    @PostMapping("/ai/async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<AiJobResponse> generateBenefitAiAsync(
+            @ModelAttribute BenefitGenerateAiRequest request
+    ) {
+        Long fixedUserId = 1L;
+
+        // 요청이 끝나면 업로드 임시 파일이 삭제되므로 미리 메모리로 복사
+        request.setImage(BufferedMultipartFile.copyOf(request.getImage()));
+
+        AiJobResponse job = aiJobService.submit("BENEFIT",
+                () -> benefitService.generateBenefitAi(fixedUserId, Type.BENEFIT, request));
+
+        return ApiResponse.of(SuccessStatus.AI_JOB_ACCEPTED, job);
+    }
+
+    // AI 작성 (SSE 스트리밍): token 이벤트로 본문 조각 전달, 저장 후 done 이벤트
+    @PostMapping("/ai/stream")
+    public SseEmitter generateBenefitAiStream(
+            @ModelAttribute BenefitGenerateAiRequest request
+    ) {
+        Long fixedUserId = 1L;
+
+        request.setImage(BufferedMultipartFile.copyOf(request.getImage()));
+
+        return aiStreamService.stream("BENEFIT",
+                benefitService.prepareBenefitAi(fixedUserId, Type.BENEFIT, request));
+    }
+
+    // AI 작성 (배치): 여러 건을 한 번에 생성하고 항목별 성공/실패를 반환 (이미지 제외, JSON 요청)
+    @PostMapping("/ai/batch")
+    public ApiResponse<AiBatchResponse<BenefitGenerateAiResponse>> generateBenefitAiBatch(
+            @RequestBody List<BenefitGenerateAiRequest> requests
+    ) {
+        Long fixedUserId = 1L;
+
+        AiBatchResponse<BenefitGenerateAiResponse> response =
+                benefitService.generateBenefitAiBatch(fixedUserId, Type.BENEFIT, requests);
+
+        return ApiResponse.of(SuccessStatus._OK, response);
+    }
+
     // 임시 저장
     @PostMapping("/draft")
     public ApiResponse<PostDraftSaveResponse> saveOrUpdateDraft(
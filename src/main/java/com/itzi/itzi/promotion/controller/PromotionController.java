@@ -1,11 +1,14 @@
 package com.itzi.itzi.promotion.controller;
 
 import com.itzi.itzi.auth.domain.Category;
+import com.itzi.itzi.global.aijob.AiJobResponse;
+import com.itzi.itzi.global.aijob.AiJobService;
+import com.itzi.itzi.global.aijob.AiStreamService;
 import com.itzi.itzi.global.api.code.SuccessStatus;
 import com.itzi.itzi.global.api.dto.ApiResponse;
 import com.itzi.itzi.posts.domain.OrderBy;
 import com.itzi.itzi.posts.domain.Type;
-import com.itzi.itzi.posts.dto.response.PostListResponse;
+import com.itzi.itzi.posts.dto.response.PostCursorResponse;
 import com.itzi.itzi.promotion.dto.request.PromotionAiGenerateRequest;
 import com.itzi.itzi.promotion.dto.request.PromotionDraftSaveRequest;
 import com.itzi.itzi.promotion.dto.request.PromotionManualPublishRequest;
@@ -13,7 +16,9 @@ import com.itzi.itzi.promotion.dto.response.*;
 import com.itzi.itzi.promotion.service.PromotionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -24,6 +29,8 @@ import java.util.List;
 public class PromotionController {
 
     private final PromotionService promotionService;
+    private final AiJobService aiJobService;
+    private final AiStreamService aiStreamService;
 
     // 제휴 홍보 게시글을 맺을 수 있는 제휴 대상자 리스트 조회
     @GetMapping("/available")
@@ -43,6 +50,27 @@ public class PromotionController {
         return ApiResponse.of(SuccessStatus._OK, response);
     }
 
+    // 제휴 게시글 1차 AI 자동 작성 (비동기): jobId 즉시 반환 → GET /ai/jobs/{jobId} 로 결과 조회
+    @PostMapping("/ai/async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<AiJobResponse> promotionAiGenerateAsync(
+            @RequestBody PromotionAiGenerateRequest request,
+            @RequestParam(name="userId") Long userId)
+    {
+        AiJobResponse job = aiJobService.submit("PROMOTION",
+                () -> promotionService.generatePromotion(userId, request));
+        return ApiResponse.of(SuccessStatus.AI_JOB_ACCEPTED, job);
+    }
+
+    // 제휴 게시글 1차 AI 자동 작성 (SSE 스트리밍): token 이벤트로 응답 조각 전달, 저장 후 done 이벤트
+    @PostMapping("/ai/stream")
+    public SseEmitter promotionAiGenerateStream(
+            @RequestBody PromotionAiGenerateRequest request,
+            @RequestParam(name="userId") Long userId)
+    {
+        return aiStreamService.stream("PROMOTION", promotionService.preparePromotion(userId, request));
+    }
+
     // 제휴 게시글 수동 작성 후 업로드
     @PostMapping
     public ApiResponse<PromotionManualPublishResponse> promotionManualPublish(
@@ -105,13 +133,16 @@ public class PromotionController {
 
     }
 
-    // 모든 사용자가 작성한 제휴 홍보 게시글 목록 조회
+    // 모든 사용자가 작성한 제휴 홍보 게시글 목록 조회 (커서 기반 페이지네이션)
     @GetMapping("/all")
-    public ApiResponse<List<PostListResponse>> getAllPromotionList(
+    public ApiResponse<PostCursorResponse> getAllPromotionList(
             @RequestParam(defaultValue = "CLOSING") OrderBy orderBy,
-            @RequestParam(required = false) List<Category> filters
+            @RequestParam(required = false) List<Category> filters,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size
     ) {
-        List<PostListResponse> response = promotionService.getAllPromotionList(orderBy, filters);
+        PostCursorResponse response = promotionService.getAllPromotionList(orderBy, filters, keyword, cursor, size);
         return ApiResponse.of(SuccessStatus._OK, response);
 
     }
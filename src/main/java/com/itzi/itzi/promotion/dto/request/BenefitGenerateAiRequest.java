@@ -1,6 +1,7 @@
 package com.itzi.itzi.promotion.dto.request;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.itzi.itzi.posts.domain.Type;
 import lombok.Getter;
 import lombok.Setter;
@@ -14,7 +15,11 @@ public class BenefitGenerateAiRequest {
 
     private Type type;
 
+    @JsonIgnore                     // multipart(@ModelAttribute)로만 받음, 배치(JSON)에서는 무시
     private MultipartFile image;
+
+    // presigned URL로 버킷에 직접 올린 이미지 키 (/uploads/images), 있으면 image 파일보다 우선
+    private String imageKey;
     private String title;
     private String target;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
@@ -15,6 +15,8 @@ public class PromotionDraftSaveRequest {
     private Long agreementId;
 
     private MultipartFile postImage;
+    // presigned URL로 버킷에 직접 올린 이미지 키 (/uploads/images), 있으면 postImage 파일보다 우선
+    private String postImageKey;
     private String title;
     private String target;
 
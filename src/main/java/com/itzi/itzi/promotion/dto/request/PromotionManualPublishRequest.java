@@ -12,6 +12,8 @@ public class PromotionManualPublishRequest {
 
 
     private MultipartFile postImage;
+    // presigned URL로 버킷에 직접 올린 이미지 키 (/uploads/images), 있으면 postImage 파일보다 우선
+    private String postImageKey;
     private String title;
     private String target;
     private LocalDate startDate;
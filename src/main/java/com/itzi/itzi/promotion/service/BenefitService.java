@@ -1,11 +1,16 @@
 package com.itzi.itzi.promotion.service;
 
+import com.itzi.itzi.auth.domain.OrgProfile;
 import com.itzi.itzi.auth.domain.User;
+import com.itzi.itzi.auth.repository.OrgProfileRepository;
 import com.itzi.itzi.auth.repository.UserRepository;
+import com.itzi.itzi.global.aijob.AiBatchResponse;
+import com.itzi.itzi.global.aijob.AiBatchService;
+import com.itzi.itzi.global.aijob.AiGeneration;
 import com.itzi.itzi.global.api.code.ErrorStatus;
 import com.itzi.itzi.global.exception.GeneralException;
 import com.itzi.itzi.global.gemini.GeminiService;
-import com.itzi.itzi.global.s3.S3Service;
+import com.itzi.itzi.global.s3.ImageStore;
 import com.itzi.itzi.posts.domain.Post;
 import com.itzi.itzi.posts.domain.Status;
 import com.itzi.itzi.posts.domain.Type;
@@ -13,7 +18,9 @@ import com.itzi.itzi.posts.dto.request.PostDraftSaveRequest;
 import com.itzi.itzi.posts.dto.response.PostDeleteResponse;
 import com.itzi.itzi.posts.dto.response.PostDraftSaveResponse;
 import com.itzi.itzi.posts.dto.response.PostPublishResponse;
+import com.itzi.itzi.posts.repository.PostDraftBatchRepository;
 import com.itzi.itzi.posts.repository.PostRepository;
+import com.itzi.itzi.posts.service.PostImageVariantService;
 import com.itzi.itzi.posts.service.PostService;
 import com.itzi.itzi.promotion.dto.request.BenefitGenerateAiRequest;
 import com.itzi.itzi.promotion.dto.response.BenefitGenerateAiResponse;
@@ -21,10 +28,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.List;
 
 @Service
 @Slf4j
@@ -32,28 +41,90 @@ import java.time.LocalDate;
 public class BenefitService {
 
     private final PostRepository postRepository;
-    private final S3Service s3Service;
+    private final PostImageVariantService postImageVariantService;
+    private final ImageStore imageStore;
     private final GeminiService geminiService;
     private final UserRepository userRepository;
     private final PostService postService;
+    private final OrgProfileRepository orgProfileRepository;
+    private final AiBatchService aiBatchService;
+    private final PostDraftBatchRepository postDraftBatchRepository;
+    private final TransactionTemplate transactionTemplate;
 
     // 혜택 홍보 게시글 상세 정보 AI 반환
     public BenefitGenerateAiResponse generateBenefitAi(Long userId, Type type, BenefitGenerateAiRequest request) {
 
+        AiGeneration<BenefitGenerateAiResponse> generation = prepareBenefitAi(userId, type, request);
+
+        // 3. Gemini 호출
+        return generation.complete(geminiService.callGemini(generation.feature(), generation.userId(), generation.prompt()));
+    }
+
+    // 검증 + 프롬프트 구성까지 (Gemini 호출 방식은 호출자가 결정: 동기/스트리밍)
+    public AiGeneration<BenefitGenerateAiResponse> prepareBenefitAi(Long userId, Type type, BenefitGenerateAiRequest request) {
+
         // 1. 검증 : 날짜 역전 금지, 모든 필드 작성
         validate(request);
 
         // 2. 프롬프트 구성
         String prompt = buildPrompt(type, request);
 
-        // 3. Gemini 호출
-        String content = geminiService.callGemini(prompt);
+        return new AiGeneration<>("BENEFIT", userId, prompt, content -> saveBenefitAi(userId, type, request, content));
+    }
+
+    // 생성된 본문으로 초안 저장 (한 트랜잭션: 이미지 변형 생성은 커밋 후 예약)
+    private BenefitGenerateAiResponse saveBenefitAi(Long userId, Type type, BenefitGenerateAiRequest request, String content) {
+        return transactionTemplate.execute(tx -> saveBenefitAiInTx(userId, type, request, content));
+    }
+
+    private BenefitGenerateAiResponse saveBenefitAiInTx(Long userId, Type type, BenefitGenerateAiRequest request, String content) {
 
         // 4. 엔티티 구성
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
 
-        Post post = Post.builder()
+        Post post = buildBenefitDraft(user, type, request, content);
+
+        // 5. 이미지 업로드 및 변경
+        handleImageUpload(post, request.getImage(), request.getImageKey());
+
+        // 6. 저장
+        Post savedPost = postRepository.save(post);
+
+        // 7. 응답 DTO
+        return toAiResponse(userId, savedPost);
+
+    }
+
+    /*
+     혜택 홍보 게시글 여러 건 AI 생성 (배치)
+     1) 항목별 검증 + 프롬프트 (실패한 항목은 바로 실패로 기록)
+     2) 통과한 항목을 Gemini 호출 (AiBatchService, 배치당 동시 실행 수 제한 + GeminiRateLimiter)
+     3) 생성에 성공한 항목만 JDBC batch insert 한 번으로 저장
+     - 이미지는 배치에서 받지 않음 (JSON 요청)
+     */
+    public AiBatchResponse<BenefitGenerateAiResponse> generateBenefitAiBatch(
+            Long userId, Type type, List<BenefitGenerateAiRequest> requests
+    ) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
+        OrgProfile orgProfile = orgProfileRepository.findByUser_UserId(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
+
+        return aiBatchService.run("BENEFIT", userId, requests,
+                this::validate,
+                request -> buildPrompt(type, request),
+                (request, content) -> {
+                    Post draft = buildBenefitDraft(user, type, request, content);
+                    draft.setOrgProfile(orgProfile);
+                    return draft;
+                },
+                postDraftBatchRepository::insertDrafts,
+                draft -> toAiResponse(userId, draft));
+    }
+
+    private Post buildBenefitDraft(User user, Type type, BenefitGenerateAiRequest request, String content) {
+        return Post.builder()
                 .user(user)
                 .type(type)
                 .title(request.getTitle())
@@ -66,14 +137,9 @@ public class BenefitService {
                 .exposureEndDate(request.getExposureEndDate())
                 .status(Status.DRAFT)
                 .build();
+    }
 
-        // 5. 이미지 업로드 및 변경
-        handleImageUpload(post, request.getImage());
-
-        // 6. 저장
-        Post savedPost = postRepository.save(post);
-
-        // 7. 응답 DTO
+    private BenefitGenerateAiResponse toAiResponse(Long userId, Post savedPost) {
         return BenefitGenerateAiResponse.builder()
                 .postId(savedPost.getPostId())
                 .userId(userId)
@@ -89,7 +155,6 @@ public class BenefitService {
                 .content(savedPost.getContent())
                 .exposureEndDate(savedPost.getExposureEndDate())
                 .build();
-
     }
 
     // 제휴 홍보 게시글 임시 저장
@@ -161,8 +226,8 @@ public class BenefitService {
 
     private String buildPrompt(Type type, BenefitGenerateAiRequest r) {
 
-        // MultipartFile 기준으로 존재 여부만 판단
-        String postImageLine = (r.getImage() != null && !r.getImage().isEmpty())
+        // 첨부 파일 또는 직접 업로드 키 기준으로 존재 여부만 판단
+        String postImageLine = (r.getImage() != null && !r.getImage().isEmpty() || hasText(r.getImageKey()))
                 ? "\n(이미지 첨부됨)"
                 : "";
 
@@ -229,17 +294,15 @@ public class BenefitService {
     }
 
     // 이미지 업로드/변경
-    private void handleImageUpload(Post entity, MultipartFile file) {
-        if (file == null || file.isEmpty()) return;
-
+    private void handleImageUpload(Post entity, MultipartFile file, String imageKey) {
         try {
-            // 기존 이미지가 존재한다면 삭제
-            if (entity.getPostImage() != null && !entity.getPostImage().isBlank()) {
-                s3Service.deleteImageUrl(entity.getPostImage());
-            }
+            // 직접 업로드한 키가 있으면 키 확인만, 없으면 파일 업로드
+            // 같은 내용의 이미지는 기존 객체 재사용, 기존 이미지는 더 이상 쓰는 게시글이 없을 때만 삭제 예약
+            String uploadUrl = imageStore.attach(file, imageKey, entity.getPostImage());
+            if (uploadUrl == null || uploadUrl.equals(entity.getPostImage())) return;
 
-            String uploadUrl = s3Service.upload(file);
             entity.setPostImage(uploadUrl);
+            postImageVariantService.onImageChanged(entity);
         } catch (IOException e) {
             throw new GeneralException(ErrorStatus.INTERNAL_ERROR, "이미지 업로드에 실패했습니다.");
         }
@@ -1,7 +1,5 @@
 package com.itzi.itzi.promotion.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itzi.itzi.agreement.domain.Agreement;
 import com.itzi.itzi.agreement.repository.AgreementRepository;
 import com.itzi.itzi.auth.domain.Category;
@@ -9,15 +7,21 @@ import com.itzi.itzi.auth.domain.OrgProfile;
 import com.itzi.itzi.auth.domain.User;
 import com.itzi.itzi.auth.repository.OrgProfileRepository;
 import com.itzi.itzi.auth.repository.UserRepository;
+import com.itzi.itzi.global.aijob.AiGeneration;
 import com.itzi.itzi.global.api.code.ErrorStatus;
 import com.itzi.itzi.global.exception.GeneralException;
-import com.itzi.itzi.global.s3.S3Service;
+import com.itzi.itzi.global.gemini.GeminiClient;
+import com.itzi.itzi.global.s3.ImageStore;
 import com.itzi.itzi.posts.domain.OrderBy;
 import com.itzi.itzi.posts.domain.Post;
 import com.itzi.itzi.posts.domain.Status;
 import com.itzi.itzi.posts.domain.Type;
-import com.itzi.itzi.posts.dto.response.PostListResponse;
+import com.itzi.itzi.posts.dto.response.PostCursorResponse;
 import com.itzi.itzi.posts.repository.PostRepository;
+import com.itzi.itzi.posts.repository.PostSpecifications;
+import com.itzi.itzi.posts.event.PostListingChangedEvent;
+import com.itzi.itzi.posts.service.PostImageVariantService;
+import com.itzi.itzi.posts.service.PostListingCache;
 import com.itzi.itzi.posts.service.PostService;
 import com.itzi.itzi.promotion.dto.request.PromotionAiGenerateRequest;
 import com.itzi.itzi.promotion.dto.request.PromotionDraftSaveRequest;
@@ -25,20 +29,18 @@ import com.itzi.itzi.promotion.dto.request.PromotionManualPublishRequest;
 import com.itzi.itzi.promotion.dto.response.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -52,17 +54,16 @@ import static org.springframework.util.StringUtils.hasText;
 public class PromotionService {
 
     private final PostRepository postRepository;
-    private final S3Service s3Service;
+    private final PostImageVariantService postImageVariantService;
+    private final ImageStore imageStore;
     private final AgreementRepository agreementRepository;
     private final PostService postService;
     private final UserRepository userRepository;
     private final OrgProfileRepository orgProfileRepository;
-
-    @Value("${gemini.api.key}")
-    private String apiKey;
-
-    private static final String GEMINI_ENDPOINT =
-            "https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash:generateContent";
+    private final ApplicationEventPublisher eventPublisher;
+    private final GeminiClient geminiClient;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
 
     // 제휴 홍보 게시글을 맺을 수 있는 제휴 대상자 리스트 조회
     @Transactional(readOnly = true)
@@ -76,24 +77,66 @@ public class PromotionService {
     }
 
     // 제휴 홍보 게시글 AI 자동 작성
-    @Transactional
+    // - Gemini 호출(수 초) 동안 DB 커넥션을 잡지 않도록 3단계로 분리
+    //   1) 짧은 조회 트랜잭션: 검증 + 프롬프트/기간 결정
+    //   2) 트랜잭션 밖: Gemini 호출 및 응답 파싱
+    //   3) 짧은 쓰기 트랜잭션: 조회 이후 제휴 정보가 바뀌지 않았는지 다시 확인한 뒤 저장
     public PromotionAiGenerateResponse generatePromotion(Long userId, PromotionAiGenerateRequest request) {
 
-        // 1. 제휴 상태 검증 및 agreement 데이터 조회
-        Agreement agreement = agreementRepository.findById(request.getAgreementId())
-                .orElseThrow(() -> new GeneralException(ErrorStatus.AGREEMENT_NOT_FOUND, "해당하는 제휴 정보를 찾을 수 없습니다."));
+        AiGeneration<PromotionAiGenerateResponse> generation = preparePromotion(userId, request);
 
-        if (agreement.getStatus() != com.itzi.itzi.agreement.domain.Status.APPROVED) {
-            throw new GeneralException(ErrorStatus.INVALID_STATUS, "승인된 제휴만 홍보 게시글을 생성할 수 있습니다.");
-        }
+        // 6. AI API 호출 (트랜잭션 밖)
+        return generation.complete(geminiClient.generateJson(generation.feature(), generation.userId(), generation.prompt(), generation.responseType()));
+    }
 
-        // 2. 이미 PROMOTION 타입의 Post가 존재하는지 확인
-        Optional<Post> existingPromotionPost
-                = postRepository.findByAgreement_AgreementIdAndType(agreement.getAgreementId(), Type.PROMOTION);
+    // 1) 조회 트랜잭션까지 수행하고, 생성된 텍스트로 3) 저장을 이어갈 수 있게 반환 (동기/스트리밍 공용)
+    public AiGeneration<PromotionAiGenerateResponse> preparePromotion(Long userId, PromotionAiGenerateRequest request) {
 
-        if (existingPromotionPost.isPresent()) {
-            throw new GeneralException(ErrorStatus.POST_ALREADY_EXISTS, "이미 제휴 홍보 게시글이 존재합니다.");
-        }
+        PromotionDraftPlan plan = transactionTemplate.execute(tx -> planPromotionDraft(userId, request.getAgreementId()));
+
+        // JSON 모드 응답 → 레코드 (스키마로 형식이 고정되므로 정리/재시도 파싱 없음, 파싱은 GeminiClient에서 한 번)
+        return AiGeneration.json("PROMOTION", userId, plan.prompt(), PromotionCopy.class, copy -> {
+            String generatedTitle   = hasText(copy.title()) ? copy.title().trim() : "기본 제목";
+            String generatedContent = hasText(copy.content()) ? copy.content().trim() : "기본 내용";
+
+            Post saved = transactionTemplate.execute(tx -> savePromotionDraft(userId, plan, generatedTitle, generatedContent));
+
+            // 9. 응답 DTO 반환
+            return PromotionAiGenerateResponse.builder()
+                    .postId(saved.getPostId())
+                    .userId(userId)
+                    .type(Type.PROMOTION)
+                    .status(Status.DRAFT)
+                    .title(saved.getTitle())
+                    .target(saved.getTarget())
+                    .period(plan.startDate() + "~" + plan.endDate())
+                    .benefit(saved.getBenefit())
+                    .condition(saved.getCondition())
+                    .content(saved.getContent())
+                    .build();
+        });
+    }
+
+    // Gemini JSON 모드 응답 (GeminiClient가 이 레코드로 responseSchema 구성)
+    private record PromotionCopy(String title, String content) {}
+
+    // AI 호출 전에 확정할 수 있는 값들 (조회 시점의 agreement.updatedAt 포함)
+    private record PromotionDraftPlan(
+            Long agreementId,
+            LocalDateTime agreementUpdatedAt,
+            String prompt,
+            Map<String, String> agreementData,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {}
+
+    private PromotionDraftPlan planPromotionDraft(Long userId, Long agreementId) {
+
+        // 1. 제휴 상태 검증 및 agreement 데이터 조회
+        Agreement agreement = agreementRepository.findById(agreementId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.AGREEMENT_NOT_FOUND, "해당하는 제휴 정보를 찾을 수 없습니다."));
+
+        validatePromotionGeneratable(agreement);
 
         // 3. AI에게 보낼 프롬프트 구성에 필요한 기존 RECRUITING Post 조회
         // agreement 엔티티를 사용해서 post 조회
@@ -102,11 +145,10 @@ public class PromotionService {
             throw new GeneralException(ErrorStatus.NOT_FOUND, "연결된 모집 게시글(RECRUITING)을 찾을 수 없습니다.");
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
-
-        OrgProfile orgProfile = orgProfileRepository.findByUser_UserId(userId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
+        // 작성자 검증은 AI 호출 전에 (실패할 요청에 Gemini를 부르지 않음)
+        if (!userRepository.existsById(userId) || orgProfileRepository.findByUser_UserId(userId).isEmpty()) {
+            throw new GeneralException(ErrorStatus.NOT_FOUND);
+        }
 
         // 4. Agreement 문서 내용 파싱
         Map<String, String> agreementData = parseAgreementContent(agreement.getContent());
@@ -114,19 +156,7 @@ public class PromotionService {
         // 5. 프롬프트 구성
         String prompt = buildPrompt(agreementData, recruitingPost);
 
-        // 6. AI API 호출 및 JSON 응답 파싱 (이전 답변대로 sanitize + lenient parser 적용 권장)
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode rootNode;
-        {
-            String geminiRaw  = callGemini(prompt);
-            String geminiJson = sanitizeModelTextToJson(geminiRaw);
-            rootNode = parseJsonStrictFirstThenLenient(mapper, geminiJson);
-        }
-
-        String generatedTitle   = rootNode.path("title").asText("기본 제목");
-        String generatedContent = rootNode.path("content").asText("기본 내용");
-
-        // 7. 기간 결정 (Agreement의 명시 필드를 최우선)
+        // 7. 기간 결정 (Agreement의 명시 필드를 최우선) - AI 응답과 무관하므로 호출 전에 확정
         LocalDate startDate = agreement.getStartDate();
         LocalDate endDate   = agreement.getEndDate();
 
@@ -149,7 +179,7 @@ public class PromotionService {
                     .orElse("");
 
             DateRange dr = parseDateRangeFlexible(rawPeriod,
-                    recruitingPost.getStartDate() != null ? recruitingPost.getStartDate() : LocalDate.now());
+                    recruitingPost.getStartDate() != null ? recruitingPost.getStartDate() : LocalDate.now(clock));
             startDate = dr.start;
             endDate   = dr.end;
         }
@@ -158,41 +188,65 @@ public class PromotionService {
             throw new GeneralException(ErrorStatus.DATE_RANGE_INVALID, "종료일이 시작일보다 빠릅니다.");
         }
 
+        return new PromotionDraftPlan(agreement.getAgreementId(), agreement.getUpdatedAt(),
+                prompt, agreementData, startDate, endDate);
+    }
+
+    private Post savePromotionDraft(Long userId, PromotionDraftPlan plan, String generatedTitle, String generatedContent) {
+
+        // AI 호출 동안 제휴 정보가 바뀌었거나 다른 요청이 먼저 홍보글을 만들었으면 저장하지 않음
+        Agreement agreement = agreementRepository.findById(plan.agreementId())
+                .orElseThrow(() -> new GeneralException(ErrorStatus.AGREEMENT_NOT_FOUND, "해당하는 제휴 정보를 찾을 수 없습니다."));
+
+        if (!Objects.equals(agreement.getUpdatedAt(), plan.agreementUpdatedAt())) {
+            throw new GeneralException(ErrorStatus.AI_SOURCE_CHANGED, "AI 생성 중 제휴 정보가 수정되었습니다.");
+        }
+        validatePromotionGeneratable(agreement);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
+
+        OrgProfile orgProfile = orgProfileRepository.findByUser_UserId(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
+
+        Map<String, String> agreementData = plan.agreementData();
+
         // 8. 새로운 PROMOTION 타입의 Post 엔티티 생성
         Post newPromotionPost = Post.builder()
                 .type(Type.PROMOTION)
                 .status(Status.DRAFT)
                 .user(user)
                 .title(generatedTitle)
-                .postImage(user.getProfileImage())                  // ai 반환 시 기본 이미지는 프로필 이미지로 사용
+                .postImage(imageStore.share(user.getProfileImage()))   // ai 반환 시 기본 이미지는 프로필 이미지로 사용 (참조 수 +1)
                 .content(generatedContent)
-                .startDate(startDate)
-                .endDate(endDate)
+                .startDate(plan.startDate())
+                .endDate(plan.endDate())
                 .target(agreementData.getOrDefault("target", "대상 미정"))
                 .benefit(agreementData.getOrDefault("benefit", "혜택 미정"))
                 .condition(agreementData.getOrDefault("condition", "조건 미정"))
                 .agreement(agreement)
                 .exposeTargetInfo(true)
                 .exposeProposerInfo(true)
-                .exposureEndDate(endDate)
+                .exposureEndDate(plan.endDate())
                 .orgProfile(orgProfile)
                 .build();
 
-        Post saved = postRepository.save(newPromotionPost);
+        return postRepository.save(newPromotionPost);
+    }
 
-        // 9. 응답 DTO 반환
-        return PromotionAiGenerateResponse.builder()
-                .postId(saved.getPostId())
-                .userId(userId)
-                .type(Type.PROMOTION)
-                .status(Status.DRAFT)
-                .title(saved.getTitle())
-                .target(saved.getTarget())
-                .period(startDate + "~" + endDate)
-                .benefit(saved.getBenefit())
-                .condition(saved.getCondition())
-                .content(saved.getContent())
-                .build();
+    // 승인된 제휴이고, 아직 PROMOTION 게시글이 없어야 AI 작성 가능
+    private void validatePromotionGeneratable(Agreement agreement) {
+        if (agreement.getStatus() != com.itzi.itzi.agreement.domain.Status.APPROVED) {
+            throw new GeneralException(ErrorStatus.INVALID_STATUS, "승인된 제휴만 홍보 게시글을 생성할 수 있습니다.");
+        }
+
+        // 2. 이미 PROMOTION 타입의 Post가 존재하는지 확인
+        Optional<Post> existingPromotionPost
+                = postRepository.findByAgreement_AgreementIdAndType(agreement.getAgreementId(), Type.PROMOTION);
+
+        if (existingPromotionPost.isPresent()) {
+            throw new GeneralException(ErrorStatus.POST_ALREADY_EXISTS, "이미 제휴 홍보 게시글이 존재합니다.");
+        }
     }
 
     // 제휴 게시글 수동 작성 후 업로드
@@ -250,13 +304,14 @@ public class PromotionService {
                 .build();
 
         // 3. 이미지 업로드
-        handleImageUpload(post, request.getPostImage());
+        handleImageUpload(post, request.getPostImage(), request.getPostImageKey());
 
         postRepository.save(post);
 
         // agreement 엔티티에 Post 정보 업데이트 (양방향 관계)
         agreement.setPost(post);
         agreementRepository.save(agreement);
+        eventPublisher.publishEvent(new PostListingChangedEvent(post.getPostId(), post.getType()));
 
         // 4. 응답 반환
         return PromotionManualPublishResponse.builder()
@@ -324,7 +379,7 @@ public class PromotionService {
 
             // 수정, 새로 작성된 부분만 업데이트
             applyPatch(post, request);
-            handleImageUpload(post, request.getPostImage());
+            handleImageUpload(post, request.getPostImage(), request.getPostImageKey());
         } else {
             // 새 제휴 게시글 생성
             post = Post.builder()
@@ -335,7 +390,7 @@ public class PromotionService {
                     .build();
 
             applyPatch(post, request);
-            handleImageUpload(post, request.getPostImage());
+            handleImageUpload(post, request.getPostImage(), request.getPostImageKey());
         }
 
         if (post.getType() == null) {
@@ -376,6 +431,7 @@ public class PromotionService {
         post.setPublishedAt(LocalDateTime.now());
 
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostListingChangedEvent(post.getPostId(), post.getType()));
 
         return new PromotionPublishResponse(
                 Type.RECRUITING,
@@ -425,10 +481,8 @@ public class PromotionService {
         // 1. 수정된 값 반영
         applyPatch(post, request);
 
-        // 2. 이미지가 변경된 경우 교체
-        if (request.getPostImage() != null && !request.getPostImage().isEmpty()) {
-            handleImageUpload(post, request.getPostImage());
-        }
+        // 2. 이미지가 변경된 경우 교체 (파일/키 둘 다 없으면 기존 이미지 유지)
+        handleImageUpload(post, request.getPostImage(), request.getPostImageKey());
 
         // 3. 게시 요건 검증 (모든 필드가 작성되어야 함)
         validateForPublishEntity(post);
@@ -438,6 +492,7 @@ public class PromotionService {
         post.setPublishedAt(LocalDateTime.now());
 
         Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostListingChangedEvent(saved.getPostId(), saved.getType()));
         return buildPublishResponse(saved);
     }
 
@@ -447,13 +502,14 @@ public class PromotionService {
 
         Post post = postRepository.findById(postId).orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
 
-        // 게시된 글만 삭제 가능
-        if (post.getStatus() != Status.PUBLISHED) {
+        // 게시된 글(노출 기간이 끝난 글 포함)만 삭제 가능
+        if (post.getStatus() != Status.PUBLISHED && post.getStatus() != Status.EXPIRED) {
             throw new GeneralException(ErrorStatus.CANNOT_DELETE_POST);
         }
 
         post.setStatus(Status.DELETED);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostListingChangedEvent(post.getPostId(), post.getType()));
 
         return new PromotionDeleteResponse(
                 post.getPostId(),
@@ -464,24 +520,25 @@ public class PromotionService {
     }
 
     // 모든 사용자가 작성한 제휴 홍보 게시글 카드뷰 조회
+    // 익명 사용자 모두 같은 결과 → 조회 파라미터별로 캐시 (검색어가 있으면 캐시 X)
+    @Cacheable(cacheNames = PostListingCache.PROMOTION_LISTINGS, condition = "#keyword == null")
     @Transactional(readOnly = true)
-    public List<PostListResponse> getAllPromotionList(OrderBy orderBy, List<Category> categories) {
+    public PostCursorResponse getAllPromotionList(OrderBy orderBy, List<Category> categories, String keyword,
+                                                  String cursor, int size) {
 
         Status status = Status.PUBLISHED;
         List<Type> types = List.of(Type.BENEFIT, Type.PROMOTION);
 
-        Predicate<Post> categoryFilter = (categories == null || categories.isEmpty())
-                ? null
-                : post -> post.getCategory() != null && categories.contains(post.getCategory());
-
-        return postService.getAllPostList(types, status, orderBy, categoryFilter);
+        // 카테고리 필터는 DB 조건으로 (null/빈 목록이면 전체 조회)
+        return postService.getAllPostList(types, status, orderBy,
+                PostSpecifications.categoryIn(categories), keyword, cursor, size);
 
     }
 
     // 내가 작성한 제휴 홍보 게시글 카드뷰 조회
     @Transactional(readOnly = true)
     public List<PromotionListResponse> getMyPromotionsList(Long userId, Type type) {
-        List<Status> statuses = List.of(Status.DRAFT, Status.PUBLISHED);
+        List<Status> statuses = List.of(Status.DRAFT, Status.PUBLISHED, Status.EXPIRED);
 
         return postRepository.findByUser_UserIdAndTypeAndStatusIn(userId, type, statuses)
                 .stream()
@@ -493,8 +550,8 @@ public class PromotionService {
     @Transactional(readOnly = true)
     public PromotionDetailResponse getPromotionDetail(Long userId, Long postId) {
 
-        // 존재하는 게시글인지 확인
-        Post post = postRepository.findById(postId).orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
+        // 존재하는 게시글인지 확인 (협약서, 제안자/대상자 프로필까지 한 번에 조회)
+        Post post = postRepository.findPromotionDetail(postId).orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
 
         // type이 PROMOTION인지 검증
         if (post.getType() != Type.PROMOTION) {
@@ -508,9 +565,6 @@ public class PromotionService {
             throw new GeneralException(ErrorStatus.NOT_FOUND, "해당 게시글에 연결된 협약서가 없습니다.");
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
-
         // 발신자 정보 처리
         Object senderInfo = null;
         if (Boolean.TRUE.equals(post.getExposeProposerInfo())) {
@@ -621,7 +675,7 @@ public class PromotionService {
                 * **핵심 내용(대상, 혜택, 기간, 조건)은 목록 형태로 명확하게 정리**
                 * **마지막 문단에는 마무리 문구를 1-2문장 사용**
                 * 게시글의 내용과 관련된 이모티콘을 적절히 사용
-                * 응답은 JSON 형식으로 반환: {"title": "...", "content": "..."}
+                * title: 게시글 제목, content: 게시글 본문
             """;
 
         return template.replace("{target}", agreementData.getOrDefault("target", ""))
@@ -632,75 +686,6 @@ public class PromotionService {
                 .replace("{postContent}", post.getContent());
     }
 
-    private String callGemini(String prompt) {
-        try {
-            if (!hasText(apiKey)) {
-                throw new GeneralException(ErrorStatus.GEMINI_API_KEY_MISSING);
-            }
-
-            ObjectMapper om = new ObjectMapper();
-
-            String body = "{"
-                    + "\"contents\":[{"
-                    + "  \"parts\":[{"
-                    + "    \"text\":" + om.writeValueAsString(prompt)
-                    + "  }]"
-                    + "}]"
-                    + "}";
-
-            HttpRequest req = HttpRequest.newBuilder()
-                    .uri(URI.create(GEMINI_ENDPOINT + "?key=" + apiKey))
-                    .header("Content-Type", "application/json; charset=UTF-8")
-                    .POST(HttpRequest.BodyPublishers.ofString(body))
-                    .build();
-
-            HttpClient client = HttpClient.newHttpClient();
-            HttpResponse<String> resp = client.send(req, HttpResponse.BodyHandlers.ofString());
-
-            // HTTP 레벨 에러 : GEMINI_HTTP_ERROR
-            if (resp.statusCode() < 200 || resp.statusCode() >= 300) {
-                throw new GeneralException(ErrorStatus.GEMINI_HTTP_ERROR,
-                        "status=" + resp.statusCode() + ", body=" + resp.body());
-            }
-
-            JsonNode root = om.readTree(resp.body());
-
-            // 안전성 차단
-            JsonNode feedback = root.path("promptFeedback");
-            if (!feedback.isMissingNode()) {
-                String blockReason = feedback.path("blockReason").asText("");
-                if (hasText(blockReason)) {
-                    throw new GeneralException(ErrorStatus.GEMINI_BLOCKED,
-                            blockReason + " / " + resp.body());
-                }
-            }
-
-            // candidates/parts 포맷 검증 : GEMINI_INVALID_RESPONSE
-            JsonNode candidates = root.path("candidates");
-            if (!candidates.isArray() || candidates.isEmpty()) {
-                throw new GeneralException(ErrorStatus.GEMINI_INVALID_RESPONSE,
-                        "AI 응답에 canditdates 누락: " + resp.body());
-            }
-
-            JsonNode parts = candidates.get(0).path("content").path("parts");
-            if (!parts.isArray() || parts.isEmpty()) {
-                throw new RuntimeException("AI 응답에 parts 누락: " + resp.body());
-            }
-
-            // 빈 텍스트를 반환했을 경우
-            String text = parts.get(0).path("text").asText();
-            if (!hasText(text)) {
-                throw new GeneralException(ErrorStatus.GEMINI_EMPTY_TEXT, "body=" + resp.body());
-            }
-
-            return text.trim();
-
-        } catch (Exception e) {
-            throw new GeneralException(ErrorStatus.INTERNAL_ERROR, e.getMessage());
-
-        }
-    }
-
     private PromotionManualPublishResponse buildPublishResponse(Post saved) {
         return PromotionManualPublishResponse.builder()
                 .type(saved.getType())
@@ -737,7 +722,7 @@ public class PromotionService {
         }
 
         // 이미지 필수 검증
-        if (request.getPostImage() == null || request.getPostImage().isEmpty()) {
+        if ((request.getPostImage() == null || request.getPostImage().isEmpty()) && !hasText(request.getPostImageKey())) {
             throw new GeneralException(ErrorStatus.REQUIRED_FIELD_MISSING, "이미지는 필수입니다.");
         }
 
@@ -747,6 +732,9 @@ public class PromotionService {
         if (end.isBefore(start)) {
             throw new GeneralException(ErrorStatus.DATE_RANGE_INVALID);
         }
+        if (request.getExposureEndDate().isBefore(LocalDate.now(clock))) {
+            throw new GeneralException(ErrorStatus.DATE_RANGE_INVALID, "노출 종료일이 이미 지났습니다.");
+        }
     }
 
     // 게시를 위한 필수값 검증 (모든 필드가 작성돼 있는지 확인)
@@ -761,12 +749,16 @@ public class PromotionService {
         if (p.getEndDate().isBefore(p.getStartDate())) {
             throw new GeneralException(ErrorStatus.DATE_RANGE_INVALID);
         }
+        if (p.getExposureEndDate().isBefore(LocalDate.now(clock))) {
+            throw new GeneralException(ErrorStatus.DATE_RANGE_INVALID, "노출 종료일이 이미 지났습니다.");
+        }
     }
 
     // 임시 저장을 위해서는 최소 1개 이상의 필드가 작성돼야 함
     private void validateHasAnyDraftField(PromotionDraftSaveRequest request) {
         boolean hasAny =
                 request.getPostImage() != null && !request.getPostImage().isEmpty() ||
+                        hasText(request.getPostImageKey()) ||
                         hasText(request.getTitle()) ||
                         hasText(request.getTarget())||
                 request.getStartDate() != null || request.getEndDate() != null ||
@@ -831,17 +823,15 @@ public class PromotionService {
     }
 
     // 이미지 업로드/변경
-    private void handleImageUpload(Post entity, MultipartFile file) {
-        if (file == null || file.isEmpty()) return;
-
+    private void handleImageUpload(Post entity, MultipartFile file, String imageKey) {
         try {
-            // 기존 이미지가 존재한다면 삭제
-            if (entity.getPostImage() != null && !entity.getPostImage().isBlank()) {
-                s3Service.deleteImageUrl(entity.getPostImage());
-            }
+            // 직접 업로드한 키가 있으면 키 확인만, 없으면 파일 업로드
+            // 같은 내용의 이미지는 기존 객체 재사용, 기존 이미지는 더 이상 쓰는 게시글이 없을 때만 삭제 예약
+            String uploadUrl = imageStore.attach(file, imageKey, entity.getPostImage());
+            if (uploadUrl == null || uploadUrl.equals(entity.getPostImage())) return;
 
-            String uploadUrl = s3Service.upload(file);
             entity.setPostImage(uploadUrl);
+            postImageVariantService.onImageChanged(entity);
         } catch (IOException e) {
             throw new GeneralException(ErrorStatus.INTERNAL_ERROR, "이미지 업로드에 실패했습니다.");
         }
@@ -856,7 +846,7 @@ public class PromotionService {
                 .status(post.getStatus())
                 .bookmarkCount(post.getBookmarkCount())
                 .exposureEndDate(post.getExposureEndDate())
-                .postImage(post.getPostImage())
+                .postImage(post.getPostImageCard() != null ? post.getPostImageCard() : post.getPostImage())    // 카드뷰 크기 변형 우선
                 .title(post.getTitle())
                 .target(post.getTarget())
                 .startDate(post.getStartDate())
@@ -865,52 +855,6 @@ public class PromotionService {
                 .build();
     }
 
-    // 모델이 종종 붙이는 ```json ... ``` / ``` ... ``` / 앞뒤 설명문 제거 및 따옴표/BOM 정규화
-    private String sanitizeModelTextToJson(String text) {
-        if (text == null) return "";
-        String s = text.trim();
-
-        // 코드펜스(백틱) 제거
-        s = s.replaceAll("(?s)^```(?:json)?\\s*", "");
-        s = s.replaceAll("(?s)\\s*```$", "");
-
-        // 최초 '{'부터 마지막 '}'까지 추출 (앞뒤 잡설 제거)
-        int start = s.indexOf('{');
-        int end   = s.lastIndexOf('}');
-        if (start >= 0 && end >= start) {
-            s = s.substring(start, end + 1);
-        }
-
-        // 스마트 따옴표 정규화
-        s = s.replace('“','"').replace('”','"')
-                .replace('’','\'').replace('‘','\'');
-
-        // BOM 제거
-        if (!s.isEmpty() && s.charAt(0) == '\uFEFF') {
-            s = s.substring(1);
-        }
-        return s.trim();
-    }
-
-    // JSON 파싱: 1차 엄격 시도 → 실패 시 sanitize 후 2차 시도
-    private JsonNode parseJsonStrictFirstThenLenient(ObjectMapper mapper, String raw) {
-        try {
-            return mapper.readTree(raw);
-        } catch (IOException first) {
-            String cleaned = sanitizeModelTextToJson(raw);
-            try {
-                return mapper.readTree(cleaned);
-            } catch (IOException second) {
-                String preview = cleaned.length() > 200 ? cleaned.substring(0, 200) + "..." : cleaned;
-                throw new GeneralException(
-                        ErrorStatus.INTERNAL_ERROR,
-                        "AI 응답 파싱 실패 (preview=" + preview + ")",
-                        second
-                );
-            }
-        }
-    }
-
     private static class DateRange {
         final LocalDate start;
         final LocalDate end;
@@ -963,7 +907,7 @@ public class PromotionService {
         Pattern SINGLE_KO = Pattern.compile("(\\d{4})\\s*년\\s*(\\d{1,2})\\s*월\\s*(\\d{1,2})\\s*일");
         Pattern SINGLE_ISO = Pattern.compile("(\\d{4})[-./](\\d{1,2})[-./](\\d{1,2})");
 
-        LocalDate todayBase = (base != null) ? base : LocalDate.now();
+        LocalDate todayBase = (base != null) ? base : LocalDate.now(clock);
 
         Matcher m;
 
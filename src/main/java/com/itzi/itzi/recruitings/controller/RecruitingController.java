@@ -1,5 +1,10 @@
 package com.itzi.itzi.recruitings.controller;
 
+import com.itzi.itzi.global.aijob.AiBatchResponse;
+import com.itzi.itzi.global.aijob.AiJobResponse;
+import com.itzi.itzi.global.aijob.AiJobService;
+import com.itzi.itzi.global.aijob.AiStreamService;
+import com.itzi.itzi.global.aijob.BufferedMultipartFile;
 import com.itzi.itzi.global.api.code.SuccessStatus;
 import com.itzi.itzi.global.api.dto.ApiResponse;
 import com.itzi.itzi.posts.domain.OrderBy;
@@ -14,7 +19,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -25,6 +32,8 @@ import java.util.List;
 public class RecruitingController {
 
     private final RecruitService recruitService;
+    private final AiJobService aiJobService;
+    private final AiStreamService aiStreamService;
 
     // 작성된 기본 정보를 바탕으로 상세 내용 생성
     @PostMapping(value = "/ai")
@@ -40,6 +49,50 @@ public class RecruitingController {
         return ApiResponse.of(SuccessStatus._OK, response);
     }
 
+    // 상세 내용 생성 (비동기): jobId 즉시 반환 → GET /ai/jobs/{jobId} 로 결과 조회
+    @PostMapping(value = "/ai/async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<AiJobResponse> generateRecruitingAiAsync(
+            @ModelAttribute RecruitingAiGenerateRequest request
+    ) {
+        Long fixedUserId = 1L;
+
+        // 요청이 끝나면 업로드 임시 파일이 삭제되므로 미리 메모리로 복사
+        request.setPostImage(BufferedMultipartFile.copyOf(request.getPostImage()));
+
+        AiJobResponse job = aiJobService.submit("RECRUITING",
+                () -> recruitService.generateRecruitingAi(fixedUserId, Type.RECRUITING, request));
+
+        return ApiResponse.of(SuccessStatus.AI_JOB_ACCEPTED, job);
+    }
+
+    // 상세 내용 생성 (SSE 스트리밍): token 이벤트로 본문 조각 전달, 저장 후 done 이벤트
+    @PostMapping("/ai/stream")
+    public SseEmitter generateRecruitingAiStream(
+            @ModelAttribute RecruitingAiGenerateRequest request
+    ) {
+        Long fixedUserId = 1L;
+
+        request.setPostImage(BufferedMultipartFile.copyOf(request.getPostImage()));
+
+        // 검증 실패는 스트림을 열기 전에 일반 에러 응답으로 반환
+        return aiStreamService.stream("RECRUITING",
+                recruitService.prepareRecruitingAi(fixedUserId, Type.RECRUITING, request));
+    }
+
+    // 상세 내용 생성 (배치): 여러 건을 한 번에 생성하고 항목별 성공/실패를 반환 (이미지 제외, JSON 요청)
+    @PostMapping("/ai/batch")
+    public ApiResponse<AiBatchResponse<RecruitingAiGenerateResponse>> generateRecruitingAiBatch(
+            @RequestBody List<RecruitingAiGenerateRequest> requests
+    ) {
+        Long fixedUserId = 1L;
+
+        AiBatchResponse<RecruitingAiGenerateResponse> response =
+                recruitService.generateRecruitingAiBatch(fixedUserId, requests);
+
+        return ApiResponse.of(SuccessStatus._OK, response);
+    }
+
     // 임시 저장
     @PostMapping("/draft")
     public ApiResponse<PostDraftSaveResponse> saveRecruitingDraft(
@@ -93,9 +146,24 @@ public class RecruitingController {
             @RequestParam(defaultValue = "CLOSING") OrderBy orderBy,
             @RequestParam(required = false) List<String> filters,
             @RequestParam(required = false, defaultValue = "전체") String orgType,
+            @RequestParam(required = false) String keyword,
             @PageableDefault(size = 12, page = 0) Pageable pageable
     ) {
-        Page<PostListResponse> page = recruitService.getRecruiting(orderBy, filters, orgType, pageable);
+        Page<PostListResponse> page = recruitService.getRecruiting(orderBy, filters, orgType, keyword, pageable);
         return ApiResponse.of(SuccessStatus._OK, page);
     }
+
+    // 모든 사용자가 작성한 게시글 리스트 조회 (무한 스크롤, 커서 기반)
+    @GetMapping("/cursor")
+    public ApiResponse<PostCursorResponse> getRecruitingByCursor(
+            @RequestParam(defaultValue = "CLOSING") OrderBy orderBy,
+            @RequestParam(required = false) List<String> filters,
+            @RequestParam(required = false, defaultValue = "전체") String orgType,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size
+    ) {
+        PostCursorResponse response = recruitService.getRecruitingByCursor(orderBy, filters, orgType, keyword, cursor, size);
+        return ApiResponse.of(SuccessStatus._OK, response);
+    }
 }
\ No newline at end of file
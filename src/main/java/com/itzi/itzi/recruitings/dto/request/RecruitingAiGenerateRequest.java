@@ -1,6 +1,7 @@
 package com.itzi.itzi.recruitings.dto.request;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.Valid;
 import lombok.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -15,7 +16,10 @@ import java.util.List;
 @AllArgsConstructor
 public class RecruitingAiGenerateRequest {
 
+    @JsonIgnore                     // multipart(@ModelAttribute)로만 받음, 배치(JSON)에서는 무시
     private MultipartFile postImage;
+    // presigned URL로 버킷에 직접 올린 이미지 키 (/uploads/images), 있으면 postImage 파일보다 우선
+    private String postImageKey;
     private String title;
     private String target;
 
@@ -4,25 +4,35 @@ import com.itzi.itzi.auth.domain.OrgProfile;
 import com.itzi.itzi.auth.domain.OrgType;
 import com.itzi.itzi.auth.domain.User;
 import com.itzi.itzi.auth.repository.OrgProfileRepository;
+import com.itzi.itzi.global.aijob.AiBatchResponse;
+import com.itzi.itzi.global.aijob.AiBatchService;
+import com.itzi.itzi.global.aijob.AiGeneration;
 import com.itzi.itzi.global.gemini.GeminiService;
 import com.itzi.itzi.posts.dto.response.*;
+import com.itzi.itzi.posts.service.PostImageVariantService;
+import com.itzi.itzi.posts.service.PostListingCache;
 import com.itzi.itzi.posts.service.PostService;
 import com.itzi.itzi.auth.repository.UserRepository;
 import com.itzi.itzi.global.api.code.ErrorStatus;
 import com.itzi.itzi.global.exception.GeneralException;
-import com.itzi.itzi.global.s3.S3Service;
+import com.itzi.itzi.global.s3.ImageStore;
 import com.itzi.itzi.posts.domain.OrderBy;
 import com.itzi.itzi.posts.domain.Post;
+import com.itzi.itzi.posts.domain.PostSortKey;
 import com.itzi.itzi.posts.domain.Status;
 import com.itzi.itzi.posts.domain.Type;
+import com.itzi.itzi.posts.repository.PostDraftBatchRepository;
 import com.itzi.itzi.posts.repository.PostRepository;
+import com.itzi.itzi.posts.repository.PostSpecifications;
 import com.itzi.itzi.recruitings.dto.request.RecruitingAiGenerateRequest;
 import com.itzi.itzi.posts.dto.request.PostDraftSaveRequest;
 import com.itzi.itzi.recruitings.dto.response.*;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -30,6 +40,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -43,21 +54,41 @@ public class RecruitService {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final S3Service s3Service;
+    private final PostImageVariantService postImageVariantService;
+    private final ImageStore imageStore;
     private final GeminiService geminiService;
     private final PostService postService;
     private final OrgProfileRepository orgProfileRepository;
+    private final AiBatchService aiBatchService;
+    private final PostDraftBatchRepository postDraftBatchRepository;
+    private final TransactionTemplate transactionTemplate;
 
     public RecruitingAiGenerateResponse generateRecruitingAi(Long userId, Type type, RecruitingAiGenerateRequest request) {
 
+        AiGeneration<RecruitingAiGenerateResponse> generation = prepareRecruitingAi(userId, type, request);
+
+        // 3. Gemini 호출 (GeminiService 사용)
+        return generation.complete(geminiService.callGemini(generation.feature(), generation.userId(), generation.prompt()));
+    }
+
+    // 검증 + 프롬프트 구성까지 (Gemini 호출 방식은 호출자가 결정: 동기/스트리밍)
+    public AiGeneration<RecruitingAiGenerateResponse> prepareRecruitingAi(Long userId, Type type, RecruitingAiGenerateRequest request) {
+
         // 1. 검증 : 날짜 역전 금지, 모든 필드 작성
         validate(type, request);
 
         // 2. 프롬프트 구성
         String prompt = buildPrompt(type, request);
 
-        // 3. Gemini 호출 (GeminiService 사용)
-        String content = geminiService.callGemini(prompt);
+        return new AiGeneration<>("RECRUITING", userId, prompt, content -> saveRecruitingAi(userId, request, content));
+    }
+
+    // 생성된 본문으로 초안 저장 (한 트랜잭션: 이미지 변형 생성은 커밋 후 예약)
+    private RecruitingAiGenerateResponse saveRecruitingAi(Long userId, RecruitingAiGenerateRequest request, String content) {
+        return transactionTemplate.execute(tx -> saveRecruitingAiInTx(userId, request, content));
+    }
+
+    private RecruitingAiGenerateResponse saveRecruitingAiInTx(Long userId, RecruitingAiGenerateRequest request, String content) {
 
         // 4. 엔티티 구성
         User user = userRepository.findById(userId)
@@ -66,32 +97,63 @@ public class RecruitService {
         OrgProfile orgProfile = orgProfileRepository.findByUser_UserId(userId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
 
-        Post entity = Post.builder()
-                        .user(user)
-                        .type(Type.RECRUITING)
-                        .title(request.getTitle().trim())
-                        .target(request.getTarget().trim())
-                        .startDate(request.getStartDate())
-                        .endDate(request.getEndDate())
-                        .benefit(request.getBenefit().trim())
-                        .condition(request.getCondition().trim())
-                        .content(content)
-                        .targetNegotiable(Boolean.TRUE.equals(request.getTargetNegotiable()))
-                        .periodNegotiable(Boolean.TRUE.equals(request.getPeriodNegotiable()))
-                        .benefitNegotiable(Boolean.TRUE.equals(request.getBenefitNegotiable()))
-                        .conditionNegotiable(Boolean.TRUE.equals(request.getConditionNegotiable()))
-                        .exposureEndDate(request.getExposureEndDate())
-                        .status(Status.DRAFT)
-                        .orgProfile(orgProfile)
-                        .build();
+        Post entity = buildRecruitingDraft(user, orgProfile, request, content);
 
         // 5. 이미지 업로드/변경
-        handleImageUpload(entity, request.getPostImage());
+        handleImageUpload(entity, request.getPostImage(), request.getPostImageKey());
 
         // 6. 저장
         Post saved = postRepository.save(entity);
 
         // 7. 응답 DTO
+        return toAiGenerateResponse(userId, saved);
+    }
+
+    /*
+     여러 건 AI 생성 (배치)
+     1) 항목별 검증 + 프롬프트 (실패한 항목은 바로 실패로 기록)
+     2) 통과한 항목을 Gemini 호출 (AiBatchService, 배치당 동시 실행 수 제한 + GeminiRateLimiter)
+     3) 생성에 성공한 항목만 JDBC batch insert 한 번으로 저장
+     - 이미지는 배치에서 받지 않음 (JSON 요청)
+     */
+    public AiBatchResponse<RecruitingAiGenerateResponse> generateRecruitingAiBatch(
+            Long userId, List<RecruitingAiGenerateRequest> requests
+    ) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
+        OrgProfile orgProfile = orgProfileRepository.findByUser_UserId(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND));
+
+        return aiBatchService.run("RECRUITING", userId, requests,
+                request -> validate(Type.RECRUITING, request),
+                request -> buildPrompt(Type.RECRUITING, request),
+                (request, content) -> buildRecruitingDraft(user, orgProfile, request, content),
+                postDraftBatchRepository::insertDrafts,
+                draft -> toAiGenerateResponse(userId, draft));
+    }
+
+    private Post buildRecruitingDraft(User user, OrgProfile orgProfile, RecruitingAiGenerateRequest request, String content) {
+        return Post.builder()
+                .user(user)
+                .type(Type.RECRUITING)
+                .title(request.getTitle().trim())
+                .target(request.getTarget().trim())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .benefit(request.getBenefit().trim())
+                .condition(request.getCondition().trim())
+                .content(content)
+                .targetNegotiable(Boolean.TRUE.equals(request.getTargetNegotiable()))
+                .periodNegotiable(Boolean.TRUE.equals(request.getPeriodNegotiable()))
+                .benefitNegotiable(Boolean.TRUE.equals(request.getBenefitNegotiable()))
+                .conditionNegotiable(Boolean.TRUE.equals(request.getConditionNegotiable()))
+                .exposureEndDate(request.getExposureEndDate())
+                .status(Status.DRAFT)
+                .orgProfile(orgProfile)
+                .build();
+    }
+
+    private RecruitingAiGenerateResponse toAiGenerateResponse(Long userId, Post saved) {
         return RecruitingAiGenerateResponse.builder()
                 .postId(saved.getPostId())
                 .userId(userId)
@@ -118,18 +180,18 @@ public class RecruitService {
 
     private static final int MAX_URL_LEN = 500;
 
-    private void handleImageUpload(Post entity, MultipartFile file) {
-        if (file == null || file.isEmpty()) return;
-
-        // 1) 새 파일 먼저 업로드
+    private void handleImageUpload(Post entity, MultipartFile file, String imageKey) {
+        // 1) 새 파일 먼저 업로드 (직접 업로드한 키가 있으면 키 확인만, 같은 내용의 이미지가 있으면 재사용)
+        //    기존 파일은 더 이상 쓰는 게시글이 없을 때만 같은 트랜잭션에서 삭제 예약 → 커밋된 뒤 워커가 묶어서 삭제
         final String oldUrl = entity.getPostImage();
         final String newUrl;
         try {
-            newUrl = s3Service.upload(file);    // 업로드만 수행, 아직 엔티티 반영 X
+            newUrl = imageStore.attach(file, imageKey, oldUrl);    // 아직 엔티티 반영 X
         } catch (IOException e) {
             // 업로드 실패 시 기존 상태 유지
             throw new GeneralException(ErrorStatus.INTERNAL_ERROR, "이미지 업로드에 실패했습니다.");
         }
+        if (newUrl == null) return;
 
 
         // 2) (선택) 동일 URL이면 아무 것도 하지 않음
@@ -139,23 +201,13 @@ public class RecruitService {
 
         // 3) (권장) DB 컬럼 길이 방어 – 컬럼이 VARCHAR라면 길이 체크
         if (newUrl != null && newUrl.length() > MAX_URL_LEN) {
-            // 업로드는 됐지만 DB에 못 넣을 길이라면, 업로드한 객체를 정리할지 판단(옵션)
-            // s3Service.deleteImageUrl(newUrl); // 필요시 정리
+            // 롤백되면 참조 수도 원래대로, 업로드된 객체는 아무도 참조하지 않으므로 PostImageReconciler가 정리
             throw new GeneralException(ErrorStatus._BAD_REQUEST, "이미지 url이 너무 깁니다.");
         }
 
-        // 4) 엔티티에 새 URL 반영
+        // 4) 엔티티에 새 URL 반영 (목록용 변형은 커밋 후 비동기 생성)
         entity.setPostImage(newUrl);
-
-        // 5) 새 URL 반영이 끝난 뒤에 기존 파일 삭제 (삭제 실패해도 치명적이지 않으므로 개별 처리)
-        if (oldUrl != null && !oldUrl.isBlank()) {
-            try {
-                s3Service.deleteImageUrl(oldUrl);
-            } catch (Exception cleanupEx) {
-                // 로깅만 하고 진행(필요하면 WARN 수준)
-                 log.warn("Failed to delete old image: {}", oldUrl, cleanupEx);
-            }
-        }
+        postImageVariantService.onImageChanged(entity);
     }
 
     private void validate(Type type, RecruitingAiGenerateRequest request) {
@@ -185,8 +237,8 @@ public class RecruitService {
 
     private String buildPrompt(Type type, RecruitingAiGenerateRequest r) {
 
-        // MultipartFile 기준으로 존재 여부만 판단
-        String postImageLine = (r.getPostImage() != null && !r.getPostImage().isEmpty())
+        // 첨부 파일 또는 직접 업로드 키 기준으로 존재 여부만 판단
+        String postImageLine = (r.getPostImage() != null && !r.getPostImage().isEmpty() || hasText(r.getPostImageKey()))
                 ? "\n(이미지 첨부됨)"
                 : "";
 
@@ -320,33 +372,70 @@ public class RecruitService {
     @Transactional(readOnly = true)
     public List<PostListResponse> getMyRecruitingList() {
         Long FIXED_USER_ID = 1L;
-        List<Status> statuses = List.of(Status.DRAFT, Status.PUBLISHED);
+        List<Status> statuses = List.of(Status.DRAFT, Status.PUBLISHED, Status.EXPIRED);
 
         return postService.getMyPostList(FIXED_USER_ID, statuses, Type.RECRUITING);
 
     }
 
+    // 익명 사용자 모두 같은 결과 → 조회 파라미터별로 캐시 (검색어가 있으면 캐시 X)
+    @Cacheable(cacheNames = PostListingCache.RECRUITING_LISTINGS, condition = "#keyword == null")
     @Transactional(readOnly = true)
     public Page<PostListResponse> getRecruiting(
             @Nullable OrderBy orderBy,
             @Nullable List<String> filters,
             @Nullable String orgType,
+            @Nullable String keyword,
             Pageable pageable
     ) {
-        Specification<Post> spec = Specification.allOf(
-                typeIs(Type.RECRUITING),
-                statusIs(Status.PUBLISHED),
-                orgTypeEquals(orgType),
-                benefitContainsAny(filters)
-        );
+        Specification<Post> spec = recruitingSpec(orgType, filters, keyword);
+
+        // 검색어가 있으면 정확도순 (MATCH 점수)
+        String booleanQuery = PostSpecifications.toBooleanQuery(keyword);
+        if (orderBy == OrderBy.RELEVANCE && booleanQuery != null) {
+            return postRepository.searchListResponses(spec, booleanQuery,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        }
 
         // 정렬
         Sort sort = toSort(orderBy);
         Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
 
         // 조회 + 매핑
-        Page<Post> page = postRepository.findAll(spec, sorted);
-        return page.map(this::toListResponse);
+        return postRepository.findListResponses(spec, sorted);
+    }
+
+    // 무한 스크롤용 커서 기반 조회 (count 쿼리 X, 깊은 페이지도 일정한 비용)
+    @Cacheable(cacheNames = PostListingCache.RECRUITING_LISTINGS, condition = "#keyword == null")
+    @Transactional(readOnly = true)
+    public PostCursorResponse getRecruitingByCursor(
+            @Nullable OrderBy orderBy,
+            @Nullable List<String> filters,
+            @Nullable String orgType,
+            @Nullable String keyword,
+            @Nullable String cursor,
+            int size
+    ) {
+        Specification<Post> spec = recruitingSpec(orgType, filters, keyword);
+
+        if (orderBy == OrderBy.RELEVANCE && PostSpecifications.toBooleanQuery(keyword) != null) {
+            return postService.getSearchSlice(spec, keyword, cursor, size);
+        }
+        if (orderBy == null || orderBy == OrderBy.RELEVANCE) orderBy = OrderBy.CLOSING;
+
+        return postService.getPostSlice(spec, orderBy, toSortKey(orderBy), cursor, size);
+    }
+
+    // 게시된 RECRUITING 글 + 단체 유형 + 혜택 키워드 조건 + 검색어
+    private Specification<Post> recruitingSpec(@Nullable String orgType, @Nullable List<String> filters,
+                                               @Nullable String keyword) {
+        return Specification.allOf(
+                typeIs(Type.RECRUITING),
+                statusIs(Status.PUBLISHED),
+                orgTypeEquals(orgType),
+                benefitContainsAny(filters),
+                PostSpecifications.matchesKeyword(keyword)
+        );
     }
 
     // type = RECRUITING
@@ -372,7 +461,11 @@ public class RecruitService {
         }
 
         return (root, query, cb) -> {
-            var user = root.join("user");
+            // 목록 프로젝션에서 이미 조인한 user가 있으면 재사용 (중복 조인 방지)
+            Join<?, ?> user = root.getJoins().stream()
+                    .filter(j -> "user".equals(j.getAttribute().getName()))
+                    .findFirst()
+                    .orElseGet(() -> root.join("user"));
             var org  = user.join("orgProfile");
             return cb.equal(org.get("orgType"), orgType);
         };
@@ -404,29 +497,18 @@ public class RecruitService {
             case CLOSING -> Sort.by(Sort.Direction.ASC, "endDate");           // 마감 임박순
             case LATEST  -> Sort.by(Sort.Direction.DESC, "publishedAt");      // 최신순
             case OLDEST  -> Sort.by(Sort.Direction.ASC, "publishedAt");       // 오래된순
-            case POPULAR -> Sort.by(Sort.Direction.DESC, "bookmarkCount");    // 인기순
+            case POPULAR -> Sort.by(Sort.Direction.DESC, "popularScore");     // 인기순
             default      -> Sort.by(Sort.Direction.DESC, "publishedAt");
         };
     }
 
-    private PostListResponse toListResponse(Post post) {
-        return PostListResponse.builder()
-                .postId(post.getPostId())
-                .userId(post.getUser().getUserId())
-                .category(post.getUser().getInterest().getDescription())
-                .type(post.getType())
-                .status(post.getStatus())
-                .exposureEndDate(post.getExposureEndDate())
-                .bookmarkCount(post.getBookmarkCount())
-                .postImageUrl(post.getPostImage())
-                .title(post.getTitle())
-                .target(post.getTarget())
-                .startDate(post.getStartDate())
-                .endDate(post.getEndDate())
-                .benefit(post.getBenefit())
-                .targetNegotiable(post.isTargetNegotiable())
-                .periodNegotiable(post.isPeriodNegotiable())
-                .benefitNegotiable(post.isBenefitNegotiable())
-                .build();
+    /** 커서 정렬 컬럼 (toSort와 동일한 기준) */
+    private PostSortKey toSortKey(OrderBy orderBy) {
+        return switch (orderBy) {
+            case CLOSING -> PostSortKey.END_DATE;
+            case LATEST, OLDEST -> PostSortKey.PUBLISHED_AT;
+            case POPULAR -> PostSortKey.POPULAR_SCORE;
+            default -> PostSortKey.END_DATE;
+        };
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.itzi.itzi.auth.domain.Category;
 import com.itzi.itzi.auth.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -64,6 +65,8 @@ public class Store {
             joinColumns = @JoinColumn(name = "store_id")
     )
     @Column(name = "keyword", length = 10, nullable = false) // DB는 여유 있게 50자로 둠
+    // 제안자/대상자 매장 키워드를 IN 쿼리 한 번으로 초기화
+    @BatchSize(size = 100)
     // 키워드 중복 X, 순서 X
     @Builder.Default
     private Set<String> keywords = new HashSet<>();
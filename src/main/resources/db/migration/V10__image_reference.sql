@@ -0,0 +1,16 @@
+-- 이미지 객체별 게시글 참조 수 (ImageStore)
+-- 같은 내용의 이미지는 하나의 객체(images/<sha256>)를 여러 게시글이 공유 → 참조 수가 0이 될 때만 삭제 예약
+-- 변형(-thumb.jpg, -card.jpg)은 원본 키의 참조 수를 따름
+create table image_reference (
+    object_key  varchar(255) not null,
+    ref_count   int          not null,
+    updated_at  datetime(6)  not null,
+    primary key (object_key)
+) engine = InnoDB;
+
+-- 기존 게시글 이미지 참조 수 채우기 (URL의 "/images/..." 부분이 객체 키, 삭제된 게시글도 이미지를 유지하므로 포함)
+insert into image_reference (object_key, ref_count, updated_at)
+select substring(post_image, locate('/images/', post_image) + 1) as object_key, count(*), now(6)
+from post
+where locate('/images/', post_image) > 0
+group by object_key;
@@ -0,0 +1,8 @@
+-- 이미지 삭제 아웃박스 선점 (ImageCleanupOutbox)
+-- 워커가 삭제할 행을 claim_token/claimed_at 으로 선점하고 커밋한 뒤 S3 삭제 → S3 호출 동안 DB 잠금을 잡지 않음
+-- claimed_at 이 claim-lease 보다 오래된 선점은 워커가 죽은 것으로 보고 다시 처리
+alter table image_cleanup_outbox
+    add column claim_token varchar(36) null,
+    add column claimed_at  datetime(6) null;
+
+create index idx_image_cleanup_outbox_claim on image_cleanup_outbox (claim_token);
@@ -0,0 +1,160 @@
+-- 기존 ddl-auto(update)로 만들어지던 스키마를 그대로 옮긴 기준선
+-- 이미 테이블이 있는 DB는 baseline-version: 1 로 등록되어 이 파일을 건너뜀 (새 DB에서만 실행)
+
+create table user (
+    user_id       bigint       not null auto_increment,
+    profile_name  varchar(10)  not null,
+    user_name     varchar(10)  not null,
+    password      varchar(255) not null,
+    email         varchar(255) not null,
+    phone         varchar(255) not null,
+    profile_image varchar(500) not null,
+    university    varchar(255) not null,
+    interest      enum ('FOOD','FASHION','BEAUTY','HEALTH','BOOK','LIVING','HOSPITAL','IT','TRANSPORTATION','ETC'),
+    created_at    datetime(6)  not null,
+    primary key (user_id)
+) engine = InnoDB;
+
+create table org_profile (
+    org_id      bigint       not null auto_increment,
+    user_id     bigint,
+    org_type    enum ('SCHOOL','DEPARTMENT','CLUB','STORE') not null,
+    school_name varchar(120) not null,
+    unit_name   varchar(120),
+    phone       varchar(20),
+    address     varchar(255),
+    owner_name  varchar(60),
+    link_url    varchar(255),
+    intro       varchar(100),
+    rating      integer,
+    primary key (org_id),
+    constraint uk_org_profile_user unique (user_id),
+    constraint fk_org_profile_user foreign key (user_id) references user (user_id)
+) engine = InnoDB;
+
+create table org_profile_keywords (
+    org_id  bigint      not null,
+    keyword varchar(10) not null,
+    primary key (org_id, keyword),
+    constraint fk_org_profile_keywords_org foreign key (org_id) references org_profile (org_id)
+) engine = InnoDB;
+
+create table store (
+    store_id        bigint       not null auto_increment,
+    user_id         bigint,
+    store_image     varchar(500) not null,
+    name            varchar(255) not null,
+    info            varchar(255) not null,
+    category        enum ('FOOD','FASHION','BEAUTY','HEALTH','BOOK','LIVING','HOSPITAL','IT','TRANSPORTATION','ETC') not null,
+    operating_hours varchar(255) not null,
+    phone           varchar(255) not null,
+    address         varchar(255) not null,
+    owner_name      varchar(255) not null,
+    link_url        varchar(255) not null,
+    rating          integer      not null,
+    primary key (store_id),
+    constraint uk_store_user unique (user_id),
+    constraint fk_store_user foreign key (user_id) references user (user_id)
+) engine = InnoDB;
+
+create table store_keywords (
+    store_id bigint      not null,
+    keyword  varchar(10) not null,
+    primary key (store_id, keyword),
+    constraint fk_store_keywords_store foreign key (store_id) references store (store_id)
+) engine = InnoDB;
+
+create table post (
+    post_id              bigint       not null auto_increment,
+    user_id              bigint       not null,
+    org_id               bigint       not null,
+    agreement_id         bigint,
+    sender_id            bigint,
+    receiver_id          bigint,
+    post_type            enum ('RECRUITING','BENEFIT','PROMOTION'),
+    status               enum ('DRAFT','PUBLISHED','DELETED') not null,
+    category             enum ('FOOD','FASHION','BEAUTY','HEALTH','BOOK','LIVING','HOSPITAL','IT','TRANSPORTATION','ETC'),
+    post_image           varchar(255),
+    title                varchar(120),
+    target               varchar(120),
+    start_date           date,
+    end_date             date,
+    benefit              varchar(120),
+    `condition`          varchar(120),
+    content              text,
+    exposure_end_date    date,
+    target_negotiable    bit          not null,
+    period_negotiable    bit          not null,
+    benefit_negotiable   bit          not null,
+    condition_negotiable bit          not null,
+    bookmark_count       bigint,
+    expose_proposer_info bit,
+    expose_target_info   bit,
+    created_at           datetime(6)  not null,
+    updated_at           datetime(6)  not null,
+    published_at         datetime(6),
+    primary key (post_id),
+    constraint fk_post_user foreign key (user_id) references user (user_id),
+    constraint fk_post_org_profile foreign key (org_id) references org_profile (org_id),
+    constraint fk_post_sender foreign key (sender_id) references user (user_id),
+    constraint fk_post_receiver foreign key (receiver_id) references user (user_id)
+) engine = InnoDB;
+
+create table partnership (
+    partnership_id  bigint      not null auto_increment,
+    sender_id       bigint      not null,
+    receiver_id     bigint      not null,
+    post_id         bigint      not null,
+    purpose         varchar(255),
+    period_type     enum ('SAME_AS_POST','CUSTOM'),
+    period_value    varchar(255),
+    org_type        enum ('AUTO','CUSTOM'),
+    org_value       varchar(255),
+    detail          text        not null,
+    content         text,
+    send_status     enum ('DRAFT','SEND') not null,
+    accepted_status enum ('WAITING','ACCEPTED','DECLINED') not null,
+    primary key (partnership_id),
+    constraint fk_partnership_sender foreign key (sender_id) references user (user_id),
+    constraint fk_partnership_receiver foreign key (receiver_id) references user (user_id),
+    constraint fk_partnership_post foreign key (post_id) references post (post_id)
+) engine = InnoDB;
+
+create table partnership_keywords (
+    partnership_id bigint       not null,
+    keywords       varchar(255) not null,
+    primary key (partnership_id, keywords),
+    constraint fk_partnership_keywords_partnership foreign key (partnership_id) references partnership (partnership_id)
+) engine = InnoDB;
+
+create table agreement (
+    agreement_id      bigint       not null auto_increment,
+    partnership_id    bigint,
+    post_id           bigint,
+    sender_id         bigint       not null,
+    receiver_id       bigint       not null,
+    sender_name       varchar(255) not null,
+    receiver_name     varchar(255) not null,
+    purpose           varchar(255),
+    target_period     varchar(255),
+    benefit_condition varchar(255),
+    role              varchar(255),
+    effect            varchar(255),
+    etc               varchar(255),
+    content           text,
+    status            enum ('DRAFT','GENERATED','SENT','SIGNED_SENDER','SIGNED_RECEIVER','SIGNED_ALL','APPROVED') not null,
+    start_date        date,
+    end_date          date,
+    created_at        datetime(6)  not null,
+    updated_at        datetime(6)  not null,
+    primary key (agreement_id),
+    constraint uk_agreement_partnership unique (partnership_id),
+    constraint fk_agreement_partnership foreign key (partnership_id) references partnership (partnership_id),
+    constraint fk_agreement_post foreign key (post_id) references post (post_id),
+    constraint fk_agreement_sender foreign key (sender_id) references user (user_id),
+    constraint fk_agreement_receiver foreign key (receiver_id) references user (user_id)
+) engine = InnoDB;
+
+-- post ↔ agreement 는 서로 참조하므로 agreement 생성 후에 연결
+alter table post
+    add constraint fk_post_agreement foreign key (agreement_id) references agreement (agreement_id);
@@ -0,0 +1,30 @@
+-- 목록/조회 쿼리용 복합 인덱스
+-- 컬럼 순서: 동등 조건(=, IN) → 범위/정렬 컬럼. InnoDB 보조 인덱스 끝에는 PK(post_id)가 붙으므로
+-- (정렬 컬럼, post_id) 키셋 조건과 정렬도 인덱스 순서 그대로 읽힘
+
+-- ===== post =====
+-- 제휴 홍보 목록: 마감 임박순 (post_type IN, status =, exposure_end_date >=)
+create index idx_post_type_status_exposure on post (post_type, status, exposure_end_date);
+-- 모집글 목록: 마감 임박순
+create index idx_post_type_status_end_date on post (post_type, status, end_date);
+-- 최신순/오래된순
+create index idx_post_type_status_published on post (post_type, status, published_at);
+-- 인기순
+create index idx_post_type_status_bookmark on post (post_type, status, bookmark_count);
+-- 내가 작성한 글 (user_id =, post_type =, status IN)
+create index idx_post_user_type_status on post (user_id, post_type, status);
+-- 협약서로 작성된 홍보글 조회 (agreement_id =, post_type =)
+create index idx_post_agreement_type on post (agreement_id, post_type);
+
+-- ===== partnership =====
+-- 보낸/받은 문의함 (sender_id|receiver_id =, send_status =)
+create index idx_partnership_sender_send_status on partnership (sender_id, send_status);
+create index idx_partnership_receiver_send_status on partnership (receiver_id, send_status);
+-- 수락된 문의 (accepted_status = and sender_id = or accepted_status = and receiver_id =) → index merge
+create index idx_partnership_accepted_sender on partnership (accepted_status, sender_id);
+create index idx_partnership_accepted_receiver on partnership (accepted_status, receiver_id);
+
+-- ===== agreement =====
+-- 상태별 협약서 (status = and sender_id = or status = and receiver_id =), 상태 단독 조회는 앞 컬럼으로 처리
+create index idx_agreement_status_sender on agreement (status, sender_id);
+create index idx_agreement_status_receiver on agreement (status, receiver_id);
@@ -0,0 +1,15 @@
+-- 게시글 검색용 FULLTEXT 인덱스 (한국어 조사 대응을 위해 ngram 파서, 기본 토큰 크기 2)
+-- 이전에 애플리케이션 기동 시 만들어 둔 DB가 있으므로 없을 때만 생성
+set @ft_exists := (select count(*)
+                   from information_schema.statistics
+                   where table_schema = database()
+                     and table_name = 'post'
+                     and index_name = 'ft_post_search');
+
+set @ft_ddl := if(@ft_exists = 0,
+                  'create fulltext index ft_post_search on post (title, target, benefit, content) with parser ngram',
+                  'select 1');
+
+prepare ft_stmt from @ft_ddl;
+execute ft_stmt;
+deallocate prepare ft_stmt;
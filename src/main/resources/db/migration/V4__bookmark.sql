@@ -0,0 +1,13 @@
+-- 게시글 북마크 (사용자당 게시글 1번)
+create table bookmark (
+    bookmark_id bigint      not null auto_increment,
+    user_id     bigint      not null,
+    post_id     bigint      not null,
+    created_at  datetime(6) not null,
+    primary key (bookmark_id),
+    constraint uk_bookmark_user_post unique (user_id, post_id),
+    constraint fk_bookmark_user foreign key (user_id) references user (user_id),
+    constraint fk_bookmark_post foreign key (post_id) references post (post_id)
+) engine = InnoDB;
+
+create index idx_bookmark_post on bookmark (post_id);
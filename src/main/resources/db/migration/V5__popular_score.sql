@@ -0,0 +1,12 @@
+-- 인기순 점수: log2(1 + 북마크 수) + (게시 시각 - 기준 시각) / 반감기(3일 = 259200초)
+-- 시간 감쇠 (1 + 북마크 수) × 2^(-경과 시간 / 3일) 과 같은 순서이면서 현재 시각에 의존하지 않으므로
+-- 저장 생성 컬럼으로 두고 bookmark_count가 바뀔 때만 다시 계산되게 함
+alter table post
+    add column popular_score double as (
+        log2(1 + coalesce(bookmark_count, 0))
+            + timestampdiff(second, timestamp '2025-01-01 00:00:00', coalesce(published_at, created_at)) / 259200
+    ) stored;
+
+-- 인기순 목록은 (타입, 상태) 범위를 점수 역순으로 읽기만 하면 됨 → 북마크 수 정렬 인덱스 대체
+create index idx_post_type_status_popular on post (post_type, status, popular_score);
+drop index idx_post_type_status_bookmark on post;
@@ -0,0 +1,3 @@
+-- 노출 종료일이 지난 게시글 상태 추가
+alter table post
+    modify column status enum ('DRAFT','PUBLISHED','DELETED','EXPIRED') not null;
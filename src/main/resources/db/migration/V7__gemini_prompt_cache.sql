@@ -0,0 +1,11 @@
+-- Gemini 응답 영속 캐시 (gemini.cache.persistent.enabled=true 일 때만 사용)
+-- prompt_hash = sha256(model + 프롬프트), 재시작/다중 인스턴스 간 응답 재사용
+create table gemini_prompt_cache (
+    prompt_hash char(64)     not null,
+    model       varchar(100) not null,
+    response    mediumtext   not null,
+    created_at  datetime(6)  not null,
+    primary key (prompt_hash)
+) engine = InnoDB;
+
+create index idx_gemini_prompt_cache_created on gemini_prompt_cache (created_at);
@@ -0,0 +1,5 @@
+-- 목록 카드용 이미지 변형 URL (원본 업로드 후 PostImageVariantService가 비동기로 채움)
+-- 아직 생성 전이거나 원본이 지원하지 않는 형식이면 null → 목록은 원본 URL로 대체
+alter table post
+    add column post_image_thumbnail varchar(255) null after post_image,
+    add column post_image_card      varchar(255) null after post_image_thumbnail;
@@ -0,0 +1,14 @@
+-- 교체/미사용 이미지 삭제 예약 (ImageCleanupOutbox)
+-- 게시글 변경과 같은 트랜잭션에서 기록 → 롤백되면 삭제도 취소
+-- 워커가 grace 기간이 지난 행을 DeleteObjects(최대 1000개)로 지우고 행 삭제, 실패하면 attempts 증가
+create table image_cleanup_outbox (
+    id          bigint       not null auto_increment,
+    object_key  varchar(255) not null,
+    attempts    int          not null default 0,
+    created_at  datetime(6)  not null,
+    primary key (id)
+) engine = InnoDB;
+
+create index idx_image_cleanup_outbox_created on image_cleanup_outbox (created_at);
+-- 다시 쓰이게 된 이미지(원본 + 변형)의 삭제 예약 취소용 (object_key 접두사 검색)
+create index idx_image_cleanup_outbox_key on image_cleanup_outbox (object_key);
@@ -0,0 +1,141 @@
+package com.itzi.itzi.global.gemini;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ GeminiClient JSON 모드 테스트
+ - 로컬 스텁 서버가 받은 요청 본문을 보관하고, 후보 텍스트로 modelText를 돌려줌
+ - 요청에 generationConfig(responseMimeType + responseSchema)가 실리는지,
+   레코드로 바인딩된 응답만 캐시되는지 확인
+ */
+class GeminiClientJsonModeTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpServer server;
+    private GeminiClient geminiClient;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicReference<JsonNode> lastRequest = new AtomicReference<>();
+    private final AtomicReference<String> modelText = new AtomicReference<>();
+
+    record Copy(String title, int count) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/generate", this::handle);
+        server.start();
+
+        GeminiResponseCache responseCache = new GeminiResponseCache(
+                new ConcurrentMapCacheManager(GeminiResponseCache.GEMINI_RESPONSES), null, false, Duration.ofDays(7));
+        GeminiCallPolicy callPolicy = new GeminiCallPolicy(GeminiResilienceSettings.builder()
+                .attemptTimeout(Duration.ofSeconds(5))
+                .backoffInitial(Duration.ofMillis(20))
+                .backoffMax(Duration.ofMillis(100))
+                .build());
+        GeminiRateLimiter rateLimiter = new GeminiRateLimiter(600, 10, Duration.ofSeconds(5));
+
+        geminiClient = new GeminiClient(HttpClient.newHttpClient(), objectMapper, responseCache, callPolicy,
+                rateLimiter, new GeminiRequestCoalescer(GeminiResilienceSettings.builder().build(), Duration.ofSeconds(10)),
+                new GeminiMetrics(new SimpleMeterRegistry(), callPolicy, rateLimiter, 0.075, 0.30));
+        ReflectionTestUtils.setField(geminiClient, "model", "gemini-test");
+        ReflectionTestUtils.setField(geminiClient, "apiKey", "test-key");
+        ReflectionTestUtils.setField(geminiClient, "endpoint",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/generate");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 요청_본문에_JSON_모드와_레코드_스키마가_실린다() {
+        modelText.set("{\"title\":\"제휴 안내\",\"count\":3}");
+
+        Copy copy = geminiClient.generateJson("PROMOTION", 1L, "프롬프트", Copy.class);
+
+        assertThat(copy).isEqualTo(new Copy("제휴 안내", 3));
+
+        JsonNode config = lastRequest.get().path("generationConfig");
+        assertThat(config.path("responseMimeType").asText()).isEqualTo("application/json");
+        JsonNode schema = config.path("responseSchema");
+        assertThat(schema.path("type").asText()).isEqualTo("OBJECT");
+        assertThat(schema.path("properties").path("title").path("type").asText()).isEqualTo("STRING");
+        assertThat(schema.path("properties").path("count").path("type").asText()).isEqualTo("INTEGER");
+        assertThat(schema.path("required").toString()).isEqualTo("[\"title\",\"count\"]");
+    }
+
+    @Test
+    void 일반_텍스트_요청에는_generationConfig가_없다() {
+        modelText.set("그냥 텍스트");
+
+        assertThat(geminiClient.generateContent("RECRUITING", 1L, "프롬프트")).isEqualTo("그냥 텍스트");
+        assertThat(lastRequest.get().has("generationConfig")).isFalse();
+    }
+
+    @Test
+    void 바인딩된_응답은_캐시해서_같은_프롬프트에_재사용한다() {
+        modelText.set("{\"title\":\"제휴 안내\",\"count\":3}");
+
+        geminiClient.generateJson("PROMOTION", 1L, "같은 프롬프트", Copy.class);
+        Copy cached = geminiClient.generateJson("PROMOTION", 2L, "같은 프롬프트", Copy.class);
+
+        assertThat(cached).isEqualTo(new Copy("제휴 안내", 3));
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void 스키마에_맞지_않는_응답은_캐시하지_않고_실패하거나_대체값을_쓴다() {
+        modelText.set("{\"title\":\"잘린 응답");
+
+        assertThatThrownBy(() -> geminiClient.generateJson("PROMOTION", 1L, "프롬프트", Copy.class))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.GEMINI_INVALID_RESPONSE));
+
+        Copy fallback = geminiClient.generateJson("PROMOTION", 1L, "프롬프트", Copy.class, raw -> new Copy(raw, 0));
+
+        assertThat(fallback.title()).isEqualTo("{\"title\":\"잘린 응답");
+        assertThat(requests).hasValue(2);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        lastRequest.set(objectMapper.readTree(exchange.getRequestBody()));
+
+        String body = objectMapper.writeValueAsString(Map.of("candidates",
+                List.of(Map.of("content", Map.of("parts", List.of(Map.of("text", modelText.get())))))));
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
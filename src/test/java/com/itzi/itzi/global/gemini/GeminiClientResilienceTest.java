@@ -0,0 +1,269 @@
+package com.itzi.itzi.global.gemini;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ GeminiCallPolicy 장애 주입 테스트
+ - 로컬 스텁 서버가 경로별로 503/429/400 응답, 응답 지연(멈춤)을 흉내냄
+ - 백오프는 테스트 시간을 줄이기 위해 ms 단위로 설정
+ */
+class GeminiClientResilienceTest {
+
+    private static final String OK_BODY = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"생성 완료\"}]}}],"
+            + "\"usageMetadata\":{\"promptTokenCount\":12,\"candidatesTokenCount\":30,\"totalTokenCount\":42}}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+
+        // 두 번 503 후 성공
+        server.createContext("/flaky", exchange -> {
+            if (requests.incrementAndGet() <= 2) {
+                respond(exchange, 503, "{\"error\":\"unavailable\"}");
+            } else {
+                respond(exchange, 200, OK_BODY);
+            }
+        });
+        server.createContext("/rate-limited", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, 429, "{\"error\":\"quota\"}");
+        });
+        server.createContext("/down", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, 500, "{\"error\":\"internal\"}");
+        });
+        server.createContext("/bad-request", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, 400, "{\"error\":\"invalid\"}");
+        });
+        // 헤더만 보내고 본문을 보내지 않음 (release 전까지)
+        server.createContext("/hang", exchange -> {
+            requests.incrementAndGet();
+            exchange.sendResponseHeaders(200, 0);
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(OK_BODY.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException ignored) {
+                // 클라이언트가 먼저 끊은 경우
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void 일시적인_5xx는_백오프_후_재시도해서_성공한다() {
+        GeminiClient client = client("/flaky", settings().build());
+
+        assertThat(client.generateContent("프롬프트")).isEqualTo("생성 완료");
+        assertThat(requests).hasValue(3);
+    }
+
+    @Test
+    void 계속_429면_최대_시도_횟수만큼만_호출한다() {
+        GeminiClient client = client("/rate-limited", settings().maxAttempts(3).build());
+
+        assertErrorCode(() -> client.generateContent("프롬프트"), ErrorStatus.GEMINI_RATE_LIMITED);
+        assertThat(requests).hasValue(3);
+    }
+
+    @Test
+    void 재시도해도_같은_4xx는_재시도하지_않는다() {
+        GeminiClient client = client("/bad-request", settings().build());
+
+        assertErrorCode(() -> client.generateContent("프롬프트"), ErrorStatus.GEMINI_HTTP_ERROR);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void 본문이_오지_않으면_시도별_제한_시간에_끊고_타임아웃() {
+        GeminiClient client = client("/hang", settings()
+                .maxAttempts(1)
+                .attemptTimeout(Duration.ofMillis(300))
+                .build());
+
+        long start = System.nanoTime();
+        assertErrorCode(() -> client.generateContent("프롬프트"), ErrorStatus.GEMINI_TIMEOUT);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void 전체_데드라인을_넘기면_더_재시도하지_않는다() {
+        GeminiClient client = client("/hang", settings()
+                .maxAttempts(10)
+                .deadline(Duration.ofMillis(700))
+                .attemptTimeout(Duration.ofMillis(300))
+                .build());
+
+        long start = System.nanoTime();
+        assertErrorCode(() -> client.generateContent("프롬프트"), ErrorStatus.GEMINI_TIMEOUT);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        assertThat(requests.get()).isLessThan(10);
+    }
+
+    @Test
+    void 실패율이_높으면_서킷이_열려_업스트림을_호출하지_않는다() {
+        GeminiClient client = client("/down", settings()
+                .maxAttempts(1)
+                .slidingWindowSize(4)
+                .minimumCalls(4)
+                .openDuration(Duration.ofMinutes(1))
+                .build());
+
+        for (int i = 0; i < 4; i++) {
+            int n = i;
+            assertErrorCode(() -> client.generateContent("프롬프트 " + n), ErrorStatus.GEMINI_UNAVAILABLE);
+        }
+
+        assertErrorCode(() -> client.generateContent("프롬프트 5"), ErrorStatus.GEMINI_CIRCUIT_OPEN);
+        assertThat(requests).hasValue(4);
+    }
+
+    @Test
+    void 동시_호출_한도를_넘으면_기다리지_않고_거절한다() throws Exception {
+        GeminiClient client = client("/hang", settings()
+                .maxAttempts(1)
+                .maxConcurrent(1)
+                .maxWait(Duration.ZERO)
+                .attemptTimeout(Duration.ofSeconds(5))
+                .build());
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> client.generateContent("첫 번째"));
+        while (requests.get() == 0) {
+            Thread.sleep(10);
+        }
+
+        assertErrorCode(() -> client.generateContent("두 번째"), ErrorStatus.GEMINI_BULKHEAD_FULL);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("생성 완료");
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void 같은_프롬프트_동시_요청은_한_번만_호출한다() throws Exception {
+        GeminiClient client = client("/hang", settings().build());
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try {
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> client.generateContent("TEST", 1L, "같은 요청"), callers);
+            while (requests.get() == 0) {
+                Thread.sleep(10);
+            }
+            CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> client.generateContent("TEST", 2L, "같은 요청"), callers);
+            CompletableFuture<String> third = CompletableFuture.supplyAsync(() -> client.generateContent("TEST", 3L, "같은 요청"), callers);
+            Thread.sleep(200);
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("생성 완료");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("생성 완료");
+            assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("생성 완료");
+            assertThat(requests).hasValue(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void 호출_시간과_토큰_사용량_실패_코드를_지표로_남긴다() {
+        GeminiClient ok = client("/flaky", settings().build());
+        assertThat(ok.generateContent("RECRUITING", 1L, "지표")).isEqualTo("생성 완료");
+
+        GeminiClient bad = client("/bad-request", settings().build());
+        assertErrorCode(() -> bad.generateContent("BENEFIT", 1L, "지표"), ErrorStatus.GEMINI_HTTP_ERROR);
+
+        assertThat(meterRegistry.get("gemini.call")
+                .tags("feature", "RECRUITING", "mode", "generate", "outcome", "SUCCESS").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("gemini.tokens").tags("feature", "RECRUITING", "type", "total").counter().count())
+                .isEqualTo(42);
+        assertThat(meterRegistry.get("gemini.cost").tags("feature", "RECRUITING").counter().count())
+                .isGreaterThan(0);
+        assertThat(meterRegistry.get("gemini.errors").tags("feature", "BENEFIT", "code", "GEMINI_HTTP_ERROR").counter().count())
+                .isEqualTo(1);
+    }
+
+    private static GeminiResilienceSettings.GeminiResilienceSettingsBuilder settings() {
+        return GeminiResilienceSettings.builder()
+                .attemptTimeout(Duration.ofSeconds(5))
+                .backoffInitial(Duration.ofMillis(20))
+                .backoffMax(Duration.ofMillis(100));
+    }
+
+    private GeminiClient client(String path, GeminiResilienceSettings settings) {
+        GeminiResponseCache responseCache = new GeminiResponseCache(
+                new ConcurrentMapCacheManager(GeminiResponseCache.GEMINI_RESPONSES), null, false, Duration.ofDays(7));
+
+        GeminiCallPolicy callPolicy = new GeminiCallPolicy(settings);
+        GeminiRateLimiter rateLimiter = new GeminiRateLimiter(600, 10, Duration.ofSeconds(5));
+
+        GeminiClient client = new GeminiClient(HttpClient.newHttpClient(), new ObjectMapper(),
+                responseCache, callPolicy, rateLimiter, new GeminiRequestCoalescer(GeminiResilienceSettings.builder().build(), Duration.ofSeconds(10)),
+                new GeminiMetrics(meterRegistry, callPolicy, rateLimiter, 0.075, 0.30));
+        ReflectionTestUtils.setField(client, "model", "gemini-test");
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "endpoint", "http://127.0.0.1:" + server.getAddress().getPort() + path);
+        return client;
+    }
+
+    private static void assertErrorCode(Runnable call, ErrorStatus expected) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(expected));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
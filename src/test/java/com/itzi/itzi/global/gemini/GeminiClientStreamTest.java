@@ -0,0 +1,165 @@
+package com.itzi.itzi.global.gemini;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ streamGenerateContent 스트리밍 테스트
+ - 로컬 스텁 서버가 chunked 응답으로 SSE 조각을 나눠 보냄
+ - 첫 조각을 받은 뒤에야 서버가 나머지를 보내도록 해서, 응답 전체를 기다리지 않고 조각 단위로 넘기는지 확인
+ */
+class GeminiClientStreamTest {
+
+    private HttpServer server;
+    private GeminiClient geminiClient;
+
+    private final CountDownLatch firstChunkReceived = new CountDownLatch(1);
+    private final AtomicBoolean sentBeforeFirstChunkReceived = new AtomicBoolean(false);
+    private final AtomicInteger okRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", this::streamChunks);
+        server.createContext("/blocked", exchange -> respond(exchange, 200,
+                "data: {\"promptFeedback\":{\"blockReason\":\"SAFETY\"}}\n\n"));
+        server.createContext("/error", exchange -> respond(exchange, 400, "{\"error\":\"bad request\"}"));
+        server.start();
+
+        GeminiResponseCache responseCache = new GeminiResponseCache(
+                new ConcurrentMapCacheManager(GeminiResponseCache.GEMINI_RESPONSES), null, false, Duration.ofDays(7));
+
+        GeminiCallPolicy callPolicy = new GeminiCallPolicy(GeminiResilienceSettings.builder()
+                .attemptTimeout(Duration.ofSeconds(10))
+                .build());
+
+        GeminiRateLimiter rateLimiter = new GeminiRateLimiter(600, 10, Duration.ofSeconds(5));
+
+        geminiClient = new GeminiClient(HttpClient.newHttpClient(), new ObjectMapper(), responseCache, callPolicy,
+                rateLimiter, new GeminiRequestCoalescer(GeminiResilienceSettings.builder().build(), Duration.ofSeconds(10)),
+                new GeminiMetrics(new SimpleMeterRegistry(), callPolicy, rateLimiter, 0.075, 0.30));
+        ReflectionTestUtils.setField(geminiClient, "model", "gemini-test");
+        ReflectionTestUtils.setField(geminiClient, "apiKey", "test-key");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 조각이_도착하는_대로_전달하고_전체_텍스트를_반환한다() {
+        useStreamPath("/ok");
+        List<String> chunks = new CopyOnWriteArrayList<>();
+
+        String full = geminiClient.streamContent("프롬프트", chunk -> {
+            chunks.add(chunk);
+            firstChunkReceived.countDown();
+        });
+
+        assertThat(sentBeforeFirstChunkReceived).isFalse();
+        assertThat(chunks).containsExactly("안녕하세요, ", "제휴 모집", "글입니다.");
+        assertThat(full).isEqualTo("안녕하세요, 제휴 모집글입니다.");
+    }
+
+    @Test
+    void 같은_프롬프트는_캐시된_응답을_한_조각으로_반환한다() {
+        useStreamPath("/ok");
+        geminiClient.streamContent("프롬프트", chunk -> firstChunkReceived.countDown());
+
+        List<String> chunks = new CopyOnWriteArrayList<>();
+        String full = geminiClient.streamContent("프롬프트", chunks::add);
+
+        assertThat(okRequests).hasValue(1);
+        assertThat(chunks).containsExactly("안녕하세요, 제휴 모집글입니다.");
+        assertThat(full).isEqualTo("안녕하세요, 제휴 모집글입니다.");
+    }
+
+    @Test
+    void 차단된_응답은_GEMINI_BLOCKED() {
+        useStreamPath("/blocked");
+
+        assertThatThrownBy(() -> geminiClient.streamContent("프롬프트", chunk -> { }))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.GEMINI_BLOCKED));
+    }
+
+    @Test
+    void HTTP_에러는_GEMINI_HTTP_ERROR() {
+        useStreamPath("/error");
+
+        assertThatThrownBy(() -> geminiClient.streamContent("프롬프트", chunk -> { }))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.GEMINI_HTTP_ERROR));
+    }
+
+    private void useStreamPath(String path) {
+        ReflectionTestUtils.setField(geminiClient, "streamEndpoint",
+                "http://127.0.0.1:" + server.getAddress().getPort() + path);
+    }
+
+    private void streamChunks(HttpExchange exchange) throws IOException {
+        okRequests.incrementAndGet();
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);   // 0 → chunked
+        try (OutputStream out = exchange.getResponseBody()) {
+            write(out, chunk("안녕하세요, "));
+
+            // 클라이언트가 첫 조각을 처리할 때까지 나머지를 보내지 않음
+            try {
+                if (!firstChunkReceived.await(5, TimeUnit.SECONDS)) {
+                    sentBeforeFirstChunkReceived.set(true);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            write(out, chunk("제휴 모집"));
+            write(out, chunk("글입니다."));
+            // 마지막 조각은 텍스트 없이 usageMetadata만 오는 경우가 있음
+            write(out, "data: {\"usageMetadata\":{\"totalTokenCount\":12}}\n\n");
+        }
+    }
+
+    private static String chunk(String text) {
+        return "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + text + "\"}]}}]}\n\n";
+    }
+
+    private static void write(OutputStream out, String data) throws IOException {
+        out.write(data.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.itzi.itzi.global.gemini;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiJsonSchemaTest {
+
+    record Draft(String title, long count, double rate, Boolean negotiable, LocalDate startDate) {
+    }
+
+    @Test
+    void 레코드_컴포넌트_순서대로_속성과_필수_목록을_만든다() {
+        Map<String, Object> schema = GeminiJsonSchema.of(Draft.class);
+
+        assertThat(schema.get("type")).isEqualTo("OBJECT");
+        assertThat(schema.get("required")).isEqualTo(List.of("title", "count", "rate", "negotiable", "startDate"));
+        assertThat(schema.get("propertyOrdering")).isEqualTo(schema.get("required"));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> properties = (Map<String, Object>) schema.get("properties");
+        assertThat(properties.keySet()).containsExactly("title", "count", "rate", "negotiable", "startDate");
+        assertThat(properties.get("title")).isEqualTo(Map.of("type", "STRING"));
+        assertThat(properties.get("count")).isEqualTo(Map.of("type", "INTEGER"));
+        assertThat(properties.get("rate")).isEqualTo(Map.of("type", "NUMBER"));
+        assertThat(properties.get("negotiable")).isEqualTo(Map.of("type", "BOOLEAN"));
+        assertThat(properties.get("startDate")).isEqualTo(Map.of("type", "STRING"));     // 지원하지 않는 타입은 문자열
+    }
+
+    @Test
+    void 타입별로_한_번만_만든다() {
+        assertThat(GeminiJsonSchema.of(Draft.class)).isSameAs(GeminiJsonSchema.of(Draft.class));
+    }
+
+    @Test
+    void 레코드가_아니면_거부한다() {
+        assertThatThrownBy(() -> GeminiJsonSchema.of(String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.itzi.itzi.global.gemini;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ GeminiRateLimiter 토큰 버킷 / 사용자별 공정 대기열 테스트
+ - 분당 600건(100ms마다 토큰 1개), burst 1로 설정해 대기열 순서를 관찰
+ */
+class GeminiRateLimiterTest {
+
+    @Test
+    void 토큰을_다_쓰면_사용자_사이에서_번갈아_처리한다() throws Exception {
+        GeminiRateLimiter limiter = new GeminiRateLimiter(600, 1, Duration.ofSeconds(5));
+        limiter.acquire(0L);                                // burst 소진
+
+        List<Long> order = new CopyOnWriteArrayList<>();
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            // 사용자 1이 먼저 세 건을 줄 세운 뒤 사용자 2가 한 건
+            for (int i = 0; i < 3; i++) {
+                callers.submit(() -> { limiter.acquire(1L); order.add(1L); });
+                Thread.sleep(20);
+            }
+            callers.submit(() -> { limiter.acquire(2L); order.add(2L); });
+
+            callers.shutdown();
+            assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(order).containsExactly(1L, 2L, 1L, 1L);
+    }
+
+    @Test
+    void 대기_시간_안에_차례가_오지_않으면_429로_거절한다() {
+        GeminiRateLimiter limiter = new GeminiRateLimiter(1, 1, Duration.ofMillis(100));
+        limiter.acquire(1L);
+
+        assertThatThrownBy(() -> limiter.acquire(2L))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.GEMINI_RATE_LIMITED));
+    }
+}
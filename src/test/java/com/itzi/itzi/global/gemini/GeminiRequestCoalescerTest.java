@@ -0,0 +1,78 @@
+package com.itzi.itzi.global.gemini;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ GeminiRequestCoalescer 합류 요청의 종료 보장 테스트
+ - leader가 Error로 끝나도, leader가 제한 시간을 넘겨도 합류한 요청은 풀려나야 함
+ */
+class GeminiRequestCoalescerTest {
+
+    @Test
+    void leader가_Error로_끝나면_합류한_요청도_같은_Error를_받는다() throws Exception {
+        GeminiRequestCoalescer coalescer = coalescer(Duration.ofSeconds(5));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> leader = callers.submit(() -> coalescer.execute("key", () -> {
+                leaderStarted.countDown();
+                release.join();
+                throw new StackOverflowError("bind");
+            }));
+            assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+            Future<GeminiRequestCoalescer.Result> follower = callers.submit(() -> coalescer.execute("key", () -> "unused"));
+
+            Thread.sleep(50);                                   // follower가 합류할 시간
+            release.complete(null);
+
+            assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+            assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void leader가_제한_시간을_넘기면_합류한_요청은_타임아웃으로_끝난다() throws Exception {
+        GeminiRequestCoalescer coalescer = coalescer(Duration.ofMillis(100));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+
+        ExecutorService callers = Executors.newFixedThreadPool(1);
+        try {
+            callers.submit(() -> coalescer.execute("key", () -> {
+                leaderStarted.countDown();
+                release.join();
+                return "late";
+            }));
+            assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> coalescer.execute("key", () -> "unused"))
+                    .isInstanceOfSatisfying(GeneralException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.GEMINI_TIMEOUT));
+        } finally {
+            release.complete(null);
+            callers.shutdownNow();
+        }
+    }
+
+    // 합류 대기 상한 = rate limit 대기(0) + deadline
+    private static GeminiRequestCoalescer coalescer(Duration deadline) {
+        return new GeminiRequestCoalescer(GeminiResilienceSettings.builder().deadline(deadline).build(), Duration.ZERO);
+    }
+}
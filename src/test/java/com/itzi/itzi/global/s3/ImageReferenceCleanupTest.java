@@ -0,0 +1,309 @@
+package com.itzi.itzi.global.s3;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import com.itzi.itzi.posts.service.PostImageReconciler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ 이미지 참조 수 + 삭제 아웃박스 + 고아 정리 테스트
+ - Flyway 마이그레이션을 적용한 실제 MySQL (행 잠금, insert ... on duplicate key, for update/for share)
+ - S3는 메모리 스텁 (키 → 마지막 수정 시각)
+ - 붙이기/삭제는 실제처럼 각자 커밋되도록 테스트 트랜잭션 없이 실행
+ - grace 경과는 아웃박스 행의 created_at을 앞당겨서 흉내
+ - Docker가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest(properties = {
+        "image.cleanup.grace=1h",
+        "image.cleanup.orphan-grace=24h"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ImageStore.class, ImageCleanupOutbox.class, PostImageReconciler.class,
+        ImageReferenceCleanupTest.StubS3Config.class})
+class ImageReferenceCleanupTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private ImageStore imageStore;
+
+    @Autowired
+    private ImageCleanupOutbox imageCleanupOutbox;
+
+    @Autowired
+    private PostImageReconciler postImageReconciler;
+
+    @Autowired
+    private StubS3Service s3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final MockMultipartFile logo = image("logo");
+    private final MockMultipartFile poster = image("poster");
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from image_cleanup_outbox");
+        jdbcTemplate.update("delete from image_reference");
+        jdbcTemplate.update("delete from user");
+        s3.objects.clear();
+    }
+
+    @Test
+    void 두_게시글이_공유하는_이미지는_한쪽이_교체해도_지우지_않는다() {
+        String logoUrl = attach(logo, null);
+        assertThat(attach(logo, null)).isEqualTo(logoUrl);     // 두 번째 게시글, 같은 객체
+        String logoKey = s3.keyOf(logoUrl);
+
+        attach(poster, logoUrl);                                // 첫 번째 게시글만 교체
+        passGrace();
+        imageCleanupOutbox.drain();
+
+        assertThat(s3.objects).containsKey(logoKey);
+        assertThat(refCount(logoKey)).isEqualTo(1);
+        assertThat(pendingKeys()).isEmpty();
+    }
+
+    @Test
+    void 참조_수가_0이_된_이미지는_grace가_지난_뒤_변형과_함께_지운다() {
+        String logoUrl = attach(logo, null);
+        String logoKey = s3.keyOf(logoUrl);
+        ImageVariants.withVariants(logoKey).forEach(key -> s3.objects.put(key, Instant.now()));
+
+        String posterUrl = attach(poster, logoUrl);
+        assertThat(pendingKeys()).containsExactlyInAnyOrderElementsOf(ImageVariants.withVariants(logoKey));
+
+        imageCleanupOutbox.drain();                             // grace 이내
+        assertThat(s3.objects).containsKey(logoKey);
+
+        passGrace();
+        imageCleanupOutbox.drain();
+
+        assertThat(s3.objects).doesNotContainKeys(ImageVariants.withVariants(logoKey).toArray(String[]::new));
+        assertThat(s3.objects).containsKey(s3.keyOf(posterUrl));
+        assertThat(pendingKeys()).isEmpty();
+        assertThat(refCount(logoKey)).isNull();
+    }
+
+    @Test
+    void grace_기간_중_다시_붙인_이미지는_삭제_예약이_취소된다() {
+        String logoUrl = attach(logo, null);
+        String logoKey = s3.keyOf(logoUrl);
+        attach(poster, logoUrl);                                // 참조 수 0 → 삭제 예약
+
+        assertThat(attach(logo, null)).isEqualTo(logoUrl);      // 다른 게시글이 다시 사용
+        passGrace();
+        imageCleanupOutbox.drain();
+
+        assertThat(s3.objects).containsKey(logoKey);
+        assertThat(refCount(logoKey)).isEqualTo(1);
+        assertThat(pendingKeys()).isEmpty();
+    }
+
+    @Test
+    void 워커가_삭제_중인_이미지는_붙이지_않고_다시_시도하게_한다() {
+        String logoUrl = attach(logo, null);
+        String logoKey = s3.keyOf(logoUrl);
+        attach(poster, logoUrl);
+        jdbcTemplate.update("update image_cleanup_outbox set claim_token = 'worker', claimed_at = now(6) where object_key = ?",
+                logoKey);
+
+        assertThatThrownBy(() -> attach(logo, null))
+                .isInstanceOfSatisfying(GeneralException.class, e ->
+                        assertThat(e.getErrorReasonHttpStatus().getCode())
+                                .isEqualTo(ErrorStatus.IMAGE_CLEANUP_IN_PROGRESS.getCode()));
+        assertThat(refCount(logoKey)).isZero();                 // 붙이기 트랜잭션은 롤백
+    }
+
+    @Test
+    void 고아_정리는_참조_중인_원본의_변형을_남긴다() {
+        String logoUrl = attach(logo, null);
+        String logoKey = s3.keyOf(logoUrl);
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        ImageVariants.withVariants(logoKey).forEach(key -> s3.objects.put(key, old));
+        s3.objects.put("images/orphan", old);
+
+        postImageReconciler.reconcile();
+        postImageReconciler.reconcile();                        // 이미 예약된 고아는 다시 등록하지 않음
+        assertThat(pendingKeys()).containsExactly("images/orphan");
+
+        passGrace();
+        imageCleanupOutbox.drain();
+
+        assertThat(s3.objects).containsOnlyKeys(ImageVariants.withVariants(logoKey));
+    }
+
+    @Test
+    void 프로필_이미지를_게시글에_복사하면_참조_수를_올린다() {
+        String logoUrl = attach(logo, null);
+        String logoKey = s3.keyOf(logoUrl);
+
+        // AI 홍보글 초안: 작성자 프로필 이미지(= 다른 게시글이 올린 객체)를 기본 이미지로 사용
+        assertThat(transactionTemplate.execute(status -> imageStore.share(logoUrl))).isEqualTo(logoUrl);
+        assertThat(refCount(logoKey)).isEqualTo(2);
+
+        attach(poster, logoUrl);                                // 원래 게시글만 교체
+        passGrace();
+        imageCleanupOutbox.drain();
+
+        assertThat(s3.objects).containsKey(logoKey);
+        assertThat(refCount(logoKey)).isEqualTo(1);
+        assertThat(pendingKeys()).isEmpty();
+    }
+
+    @Test
+    void 프로필이_가리키는_이미지는_게시글_참조가_없어도_지우지_않는다() {
+        String logoUrl = attach(logo, null);
+        String logoKey = s3.keyOf(logoUrl);
+        jdbcTemplate.update("""
+                insert into user (profile_name, user_name, password, email, phone, profile_image, university, created_at)
+                values ('총학생회', '총학생회', 'password', 'council@itzi.com', '010-0000-0000', ?, '성신여자대학교', now(6))
+                """, logoUrl);
+
+        attach(poster, logoUrl);                                // 참조 수 0 → 삭제 예약
+        passGrace();
+        imageCleanupOutbox.drain();
+
+        assertThat(s3.objects).containsKey(logoKey);
+        assertThat(pendingKeys()).isEmpty();
+    }
+
+    @Test
+    void 고아_정리는_프로필_이미지로_쓰이는_객체를_남긴다() {
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        s3.objects.put("images/profile", old);                 // /uploads/images로 올린 뒤 프로필에 넣은 이미지
+        jdbcTemplate.update("""
+                insert into user (profile_name, user_name, password, email, phone, profile_image, university, created_at)
+                values ('총학생회', '총학생회', 'password', 'council@itzi.com', '010-0000-0000', ?, '성신여자대학교', now(6))
+                """, s3.urlOf("images/profile"));
+
+        postImageReconciler.reconcile();
+
+        assertThat(pendingKeys()).isEmpty();
+    }
+
+    @Test
+    void 재시도_횟수를_다_쓴_삭제_예약은_정리된다() {
+        jdbcTemplate.update("insert into image_cleanup_outbox (object_key, attempts, created_at) values (?, 10, now(6))",
+                "images/stuck");
+
+        imageCleanupOutbox.drain();
+
+        assertThat(pendingKeys()).isEmpty();
+    }
+
+    // 게시글 하나의 이미지 교체 (요청 트랜잭션 하나)
+    private String attach(MultipartFile file, String currentUrl) {
+        return transactionTemplate.execute(status -> {
+            try {
+                return imageStore.attach(file, null, currentUrl);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void passGrace() {
+        jdbcTemplate.update("update image_cleanup_outbox set created_at = created_at - interval 2 hour");
+    }
+
+    private List<String> pendingKeys() {
+        return jdbcTemplate.queryForList("select object_key from image_cleanup_outbox", String.class);
+    }
+
+    private Integer refCount(String key) {
+        return jdbcTemplate.query("select ref_count from image_reference where object_key = ?",
+                rs -> rs.next() ? rs.getInt(1) : null, key);
+    }
+
+    private static MockMultipartFile image(String content) {
+        return new MockMultipartFile("postImage", content + ".jpg", "image/jpeg",
+                content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TestConfiguration
+    static class StubS3Config {
+
+        @Bean
+        StubS3Service s3Service() {
+            return new StubS3Service();
+        }
+    }
+
+    // 버킷을 메모리 맵으로 흉내내는 S3Service (키 계산, URL ↔ 키 변환은 실제 구현 사용)
+    static class StubS3Service extends S3Service {
+
+        final Map<String, Instant> objects = new ConcurrentHashMap<>();
+
+        StubS3Service() {
+            super(null, null);
+        }
+
+        @Override
+        public boolean exists(String key) {
+            return objects.containsKey(key);
+        }
+
+        @Override
+        public String uploadIfAbsent(String key, MultipartFile file) {
+            objects.putIfAbsent(key, Instant.now());
+            return urlOf(key);
+        }
+
+        @Override
+        public List<String> deleteObjects(List<String> keys) {
+            keys.forEach(objects::remove);
+            return List.of();
+        }
+
+        @Override
+        public Iterable<S3Object> listImageObjects() {
+            return objects.entrySet().stream()
+                    .map(e -> S3Object.builder().key(e.getKey()).lastModified(e.getValue()).build())
+                    .toList();
+        }
+
+        @Override
+        public String urlOf(String key) {
+            return "https://itzi-test.s3.ap-northeast-2.amazonaws.com/" + key;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.itzi.itzi.global.s3;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ 목록용 이미지 변형 테스트
+ - 휴대폰 사진처럼 EXIF 방향값(6 = 시계 방향 90도)이 붙은 JPEG를 만들어 변형 생성
+ - 방향이 픽셀에 반영되고, 결과물에는 EXIF가 남지 않아야 함
+ */
+class ImageVariantsTest {
+
+    @Test
+    void 썸네일과_카드_크기_변형을_만든다() throws IOException {
+        ImageVariants.Result result = ImageVariants.create(new ByteArrayInputStream(jpeg(4000, 3000, 1)));
+
+        assertThat(result).isNotNull();
+        BufferedImage thumbnail = read(result.thumbnail());
+        BufferedImage card = read(result.card());
+
+        assertThat(thumbnail.getWidth()).isEqualTo(240);
+        assertThat(thumbnail.getHeight()).isEqualTo(240);
+        assertThat(card.getWidth()).isEqualTo(720);
+        assertThat(card.getHeight()).isEqualTo(540);
+        assertThat(result.card().length).isLessThan(200 * 1024);
+    }
+
+    @Test
+    void EXIF_방향을_픽셀에_반영하고_EXIF는_제거한다() throws IOException {
+        byte[] source = jpeg(1200, 800, 6);
+        assertThat(contains(source, "Exif")).isTrue();
+
+        ImageVariants.Result result = ImageVariants.create(new ByteArrayInputStream(source));
+
+        BufferedImage card = read(result.card());
+        assertThat(card.getWidth()).isEqualTo(480);
+        assertThat(card.getHeight()).isEqualTo(720);
+
+        // 원본 왼쪽 위의 빨간 영역이 시계 방향 90도 회전 후 오른쪽 위로 이동
+        Color topRight = new Color(card.getRGB(card.getWidth() - 20, 20));
+        assertThat(topRight.getRed()).isGreaterThan(200);
+        assertThat(topRight.getGreen()).isLessThan(80);
+
+        assertThat(contains(result.thumbnail(), "Exif")).isFalse();
+        assertThat(contains(result.card(), "Exif")).isFalse();
+    }
+
+    @Test
+    void 이미지가_아니면_변형을_만들지_않는다() throws IOException {
+        byte[] noise = new byte[4096];
+        ThreadLocalRandom.current().nextBytes(noise);
+
+        assertThat(ImageVariants.create(new ByteArrayInputStream(noise))).isNull();
+    }
+
+    // 흰 배경 + 왼쪽 위 빨간 사각형, orientation > 1 이면 APP0 뒤에 EXIF(APP1) 세그먼트 삽입
+    private static byte[] jpeg(int width, int height, int orientation) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, width / 4, height / 4);
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        byte[] jpeg = out.toByteArray();
+        if (orientation <= 1) {
+            return jpeg;
+        }
+
+        byte[] exif = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,               // APP1, 길이 34
+                'E', 'x', 'i', 'f', 0x00, 0x00,
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,       // big endian TIFF, IFD0 오프셋 8
+                0x00, 0x01,                                         // 엔트리 1개
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01,     // Orientation, SHORT, 1개
+                0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00                              // 다음 IFD 없음
+        };
+
+        // SOI(2) + APP0(마커 2 + 길이)
+        int app0End = 4 + ((jpeg[4] & 0xFF) << 8 | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream withExif = new ByteArrayOutputStream();
+        withExif.write(jpeg, 0, app0End);
+        withExif.write(exif);
+        withExif.write(jpeg, app0End, jpeg.length - app0End);
+        return withExif.toByteArray();
+    }
+
+    private static BufferedImage read(byte[] jpeg) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(jpeg));
+    }
+
+    private static boolean contains(byte[] data, String text) {
+        return new String(data, StandardCharsets.ISO_8859_1).contains(text);
+    }
+}
@@ -0,0 +1,224 @@
+package com.itzi.itzi.global.s3;
+
+import com.itzi.itzi.global.api.code.ErrorStatus;
+import com.itzi.itzi.global.exception.GeneralException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ presigned PUT 직접 업로드 흐름 테스트
+ - 로컬 스텁 서버가 S3 호환 서버 역할 (서명된 PUT 저장, HEAD 로 메타데이터 응답)
+ - 클라이언트처럼 발급받은 URL로 직접 PUT 한 뒤, 서버는 키만 확인
+ */
+class S3ServicePresignTest {
+
+    private HttpServer server;
+    private S3Client s3Client;
+    private S3Presigner s3Presigner;
+    private S3Service s3Service;
+
+    // 스텁 버킷: path → (Content-Type, 크기)
+    private final Map<String, String[]> objects = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        URI endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+        StaticCredentialsProvider credentials =
+                StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test"));
+
+        s3Client = S3Client.builder()
+                .endpointOverride(endpoint)
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .forcePathStyle(true)
+                .build();
+        s3Presigner = S3Presigner.builder()
+                .endpointOverride(endpoint)
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+
+        s3Service = new S3Service(s3Client, s3Presigner);
+        ReflectionTestUtils.setField(s3Service, "bucketName", "itzi-test");
+        ReflectionTestUtils.setField(s3Service, "maxImageSize", DataSize.ofMegabytes(10));
+        ReflectionTestUtils.setField(s3Service, "presignExpiry", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(s3Service, "maxAttachAge", Duration.ofHours(12));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Client.close();
+        s3Presigner.close();
+        server.stop(0);
+    }
+
+    @Test
+    void 발급받은_URL로_직접_올린_이미지는_키로_확인한다() throws Exception {
+        byte[] image = new byte[4096];
+        ImageUploadSlotResponse slot = s3Service.createImageUploadSlot("image/png", (long) image.length, null);
+
+        assertThat(slot.getKey()).matches("images/[0-9a-f-]{36}");
+        assertThat(slot.getMethod()).isEqualTo("PUT");
+        assertThat(slot.getUploadUrl())
+                .startsWith("http://127.0.0.1:" + server.getAddress().getPort() + "/itzi-test/" + slot.getKey())
+                .contains("X-Amz-Signature=");
+        assertThat(slot.getHeaders()).containsEntry("content-type", "image/png");
+
+        // 클라이언트 → 버킷 직접 업로드 (Content-Length 는 HttpClient가 본문 길이로 채움)
+        HttpRequest.Builder put = HttpRequest.newBuilder(URI.create(slot.getUploadUrl()))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(image));
+        slot.getHeaders().forEach((name, value) -> {
+            if (!"content-length".equalsIgnoreCase(name)) {
+                put.header(name, value);
+            }
+        });
+        HttpResponse<Void> uploaded = HttpClient.newHttpClient().send(put.build(), HttpResponse.BodyHandlers.discarding());
+        assertThat(uploaded.statusCode()).isEqualTo(200);
+
+        assertThat(s3Service.resolveUploadedImage(slot.getKey()))
+                .endsWith("/itzi-test/" + slot.getKey());
+    }
+
+    @Test
+    void 해시를_보내면_같은_이미지는_다시_올리지_않는다() throws Exception {
+        byte[] image = new byte[2048];
+        image[0] = 1;
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(image));
+
+        ImageUploadSlotResponse slot = s3Service.createImageUploadSlot("image/png", (long) image.length, sha256);
+        assertThat(slot.getKey()).isEqualTo("images/" + sha256);
+        assertThat(slot.isUploaded()).isFalse();
+        // 본문이 해시와 다르면 S3가 거부하도록 체크섬도 서명에 포함
+        assertThat(slot.getHeaders()).containsKey("x-amz-checksum-sha256");
+
+        HttpRequest.Builder put = HttpRequest.newBuilder(URI.create(slot.getUploadUrl()))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(image));
+        slot.getHeaders().forEach((name, value) -> {
+            if (!"content-length".equalsIgnoreCase(name)) {
+                put.header(name, value);
+            }
+        });
+        HttpClient.newHttpClient().send(put.build(), HttpResponse.BodyHandlers.discarding());
+
+        // 같은 내용으로 다시 요청하면 업로드 URL 없이 키만
+        ImageUploadSlotResponse again = s3Service.createImageUploadSlot("image/png", (long) image.length, sha256.toUpperCase());
+        assertThat(again.isUploaded()).isTrue();
+        assertThat(again.getKey()).isEqualTo(slot.getKey());
+        assertThat(again.getUploadUrl()).isNull();
+        assertThat(s3Service.resolveUploadedImage(again.getKey())).endsWith("/itzi-test/" + slot.getKey());
+
+        assertThatThrownBy(() -> s3Service.createImageUploadSlot("image/png", (long) image.length, "not-a-hash"))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.INVALID_UPLOAD));
+    }
+
+    @Test
+    void 올라오지_않았거나_형식이_다른_키는_거부한다() {
+        assertThatThrownBy(() -> s3Service.resolveUploadedImage("images/" + UUID.randomUUID()))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.UPLOAD_NOT_FOUND));
+
+        assertThatThrownBy(() -> s3Service.resolveUploadedImage("profiles/../images/secret"))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.UPLOAD_NOT_FOUND));
+    }
+
+    @Test
+    void 버킷에_올라온_파일이_이미지가_아니면_거부한다() {
+        String key = "images/" + UUID.randomUUID();
+        objects.put("/itzi-test/" + key, new String[]{"text/html", "128"});
+
+        assertThatThrownBy(() -> s3Service.resolveUploadedImage(key))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.INVALID_UPLOAD));
+    }
+
+    @Test
+    void 이미지가_아니거나_너무_큰_파일은_슬롯을_발급하지_않는다() {
+        assertThatThrownBy(() -> s3Service.createImageUploadSlot("application/pdf", 1024L, null))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.INVALID_UPLOAD));
+
+        assertThatThrownBy(() -> s3Service.createImageUploadSlot("image/jpeg", DataSize.ofMegabytes(11).toBytes(), null))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorStatus.INVALID_UPLOAD));
+    }
+
+    @Test
+    void 이_버킷의_이미지_URL에서만_키를_꺼낸다() {
+        String key = "images/" + UUID.randomUUID();
+        String url = s3Service.urlOf(key);
+
+        assertThat(s3Service.keyOf(url)).isEqualTo(key);
+        assertThat(s3Service.keyOf(url + "-thumb.jpg")).isEqualTo(key + "-thumb.jpg");
+
+        // 다른 버킷/호스트, images/ 밖의 객체, 잘못된 URL은 삭제 대상이 아님
+        assertThat(s3Service.keyOf("https://other-bucket.s3.amazonaws.com/" + key)).isNull();
+        assertThat(s3Service.keyOf(s3Service.urlOf("profiles/" + UUID.randomUUID()))).isNull();
+        assertThat(s3Service.keyOf("not a url")).isNull();
+        assertThat(s3Service.keyOf(null)).isNull();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+
+        if ("PUT".equals(method)) {
+            // 서명 없는 업로드는 S3처럼 거부
+            String query = exchange.getRequestURI().getQuery();
+            if (query == null || !query.contains("X-Amz-Signature=")) {
+                exchange.sendResponseHeaders(403, -1);
+                exchange.close();
+                return;
+            }
+            long size = exchange.getRequestBody().readAllBytes().length;
+            objects.put(path, new String[]{exchange.getRequestHeaders().getFirst("Content-Type"), String.valueOf(size)});
+            exchange.getResponseHeaders().add("ETag", "\"etag\"");
+            exchange.sendResponseHeaders(200, -1);
+        } else if ("HEAD".equals(method)) {
+            String[] object = objects.get(path);
+            if (object == null) {
+                exchange.sendResponseHeaders(404, -1);
+            } else {
+                exchange.getResponseHeaders().add("Content-Type", object[0]);
+                exchange.getResponseHeaders().add("Content-Length", object[1]);
+                exchange.sendResponseHeaders(200, -1);
+            }
+        } else {
+            exchange.sendResponseHeaders(405, -1);
+        }
+        exchange.close();
+    }
+}
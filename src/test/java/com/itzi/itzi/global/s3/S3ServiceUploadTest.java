@@ -0,0 +1,186 @@
+package com.itzi.itzi.global.s3;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ S3Service 스트리밍 업로드 힙 사용량 테스트
+ - 로컬 스텁 서버가 PutObject / 멀티파트 업로드 API를 흉내내고 본문은 읽어서 버림
+ - 업로드를 호출한 스레드가 새로 할당한 바이트 수(ThreadMXBean)를 파일 크기별로 비교
+   (파일 내용은 측정 전에 만들어 둠 → 업로드 경로에서 파일 크기만큼 복사하면 바로 드러남)
+ - 같은 내용을 다시 올리면 같은 키, 본문 전송 없음 (스텁은 올라온 키만 HEAD 200)
+ */
+class S3ServiceUploadTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private HttpServer server;
+    private S3Client s3Client;
+    private S3Service s3Service;
+
+    private final AtomicLong receivedBytes = new AtomicLong();
+    private final AtomicInteger uploadedParts = new AtomicInteger();
+    private final Set<String> stored = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .forcePathStyle(true)
+                .build();
+
+        s3Service = new S3Service(s3Client, null);      // presigned URL 발급은 이 테스트에서 쓰지 않음
+        ReflectionTestUtils.setField(s3Service, "bucketName", "itzi-test");
+        ReflectionTestUtils.setField(s3Service, "multipartThreshold", DataSize.ofMegabytes(16));
+        ReflectionTestUtils.setField(s3Service, "partSize", DataSize.ofMegabytes(8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void 파일이_커져도_업로드_중_힙_할당량은_일정하다() throws Exception {
+        // 클래스 로딩, 커넥션 풀 등 1회성 할당 제외
+        upload(image(256 * 1024));
+        upload(image(256 * 1024));
+
+        long small = upload(image(2 * MB));
+        long medium = upload(image(12 * MB));        // 단일 PutObject
+        long large = upload(image(40 * MB));         // 멀티파트 (8MB × 5)
+
+        assertThat(uploadedParts).hasValue(5);
+        assertThat(medium).as("12MB 업로드 할당량").isLessThan(small + 2 * MB);
+        assertThat(large).as("40MB 업로드 할당량").isLessThan(small + 4 * MB);
+    }
+
+    @Test
+    void 같은_내용은_같은_키로_한_번만_올린다() throws Exception {
+        MockMultipartFile logo = image(64 * 1024);
+        MockMultipartFile sameLogo = new MockMultipartFile("postImage", "logo-copy.jpg", "image/jpeg", logo.getBytes());
+
+        String first = s3Service.upload(logo);
+        long afterFirst = receivedBytes.get();
+        String second = s3Service.upload(sameLogo);
+
+        assertThat(first).matches(".*/itzi-test/images/[0-9a-f]{64}");
+        assertThat(second).isEqualTo(first);
+        assertThat(receivedBytes.get()).as("두 번째 업로드 전송량").isEqualTo(afterFirst);
+
+        assertThat(s3Service.upload(image(64 * 1024))).isNotEqualTo(first);
+    }
+
+    // 업로드 1건 동안 현재 스레드가 할당한 바이트 수
+    private long upload(MockMultipartFile file) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long receivedBefore = receivedBytes.get();
+        long before = threads.getThreadAllocatedBytes(threadId);
+
+        String url = s3Service.upload(file);
+
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertThat(url).contains("/itzi-test/images/");
+        assertThat(receivedBytes.get() - receivedBefore).isGreaterThanOrEqualTo(file.getSize());
+        return allocated;
+    }
+
+    private static MockMultipartFile image(long size) {
+        byte[] content = new byte[(int) size];
+        ThreadLocalRandom.current().nextBytes(content);
+        return new MockMultipartFile("postImage", "photo.jpg", "image/jpeg", content);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+        drain(exchange.getRequestBody());
+
+        if ("HEAD".equals(method)) {
+            exchange.sendResponseHeaders(stored.contains(path) ? 200 : 404, -1);
+            exchange.close();
+            return;
+        }
+
+        if ("POST".equals(method) && query != null && query.startsWith("uploads")) {
+            respondXml(exchange, """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <InitiateMultipartUploadResult>
+                      <Bucket>itzi-test</Bucket><Key>images/test</Key><UploadId>upload-1</UploadId>
+                    </InitiateMultipartUploadResult>
+                    """);
+        } else if ("POST".equals(method)) {
+            stored.add(path);
+            respondXml(exchange, """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <CompleteMultipartUploadResult>
+                      <Bucket>itzi-test</Bucket><Key>images/test</Key><ETag>"etag"</ETag>
+                    </CompleteMultipartUploadResult>
+                    """);
+        } else if ("PUT".equals(method)) {
+            if (query != null && query.contains("partNumber")) {
+                uploadedParts.incrementAndGet();
+            } else {
+                stored.add(path);
+            }
+            exchange.getResponseHeaders().add("ETag", "\"etag\"");
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        } else {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        }
+    }
+
+    private void drain(InputStream body) throws IOException {
+        byte[] buffer = new byte[16 * 1024];
+        int n;
+        while ((n = body.read(buffer)) > 0) {
+            receivedBytes.addAndGet(n);
+        }
+    }
+
+    private static void respondXml(HttpExchange exchange, String xml) throws IOException {
+        byte[] bytes = xml.strip().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.itzi.itzi.posts.repository;
+
+import com.itzi.itzi.agreement.repository.AgreementRepository;
+import com.itzi.itzi.partnership.domain.AcceptedStatus;
+import com.itzi.itzi.partnership.domain.SendStatus;
+import com.itzi.itzi.partnership.repository.PartnershipRepository;
+import com.itzi.itzi.posts.domain.OrderBy;
+import com.itzi.itzi.posts.domain.Post;
+import com.itzi.itzi.posts.domain.PostSortKey;
+import com.itzi.itzi.posts.domain.Status;
+import com.itzi.itzi.posts.domain.Type;
+import com.itzi.itzi.posts.service.PostCursor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ 목록 쿼리 실행 계획 회귀 테스트
+ - Flyway 마이그레이션을 실제 MySQL에 적용한 뒤 (ddl-auto: validate 로 엔티티와 스키마 일치도 함께 확인)
+ - 실제 리포지토리 메서드(PostSpecifications + PostQueryRepositoryImpl, 파생 쿼리, @Query)를 호출하고
+   DataSource 프록시로 잡은 SQL과 바인딩 값을 그대로 EXPLAIN
+   → post / partnership / agreement 중 하나라도 풀스캔(type = ALL)이면 실패
+ - 작은 테이블은 옵티마이저가 풀스캔을 고르므로, 조건에 걸리는 행이 일부뿐인 데이터를 미리 채워 둠
+ - Docker가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(ListingQueryPlanTest.SqlCaptureConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListingQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static final Set<String> CHECKED_TABLES = Set.of("post", "partnership", "agreement");
+
+    // from/join 절의 "테이블 별칭" (Hibernate 별칭은 p1_0 처럼 테이블과 무관하므로 SQL에서 매핑)
+    private static final Pattern TABLE_ALIAS = Pattern.compile("(?i)\\b(?:from|join)\\s+`?(\\w+)`?\\s+(\\w+)");
+
+    // 프록시가 잡은 SQL (테스트 스레드만 사용)
+    private static final List<CapturedSql> captured = new ArrayList<>();
+    private static boolean capturing;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PartnershipRepository partnershipRepository;
+
+    @Autowired
+    private AgreementRepository agreementRepository;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            try (Statement st = con.createStatement()) {
+                st.execute("set foreign_key_checks = 0");
+
+                // 0 ~ 9999
+                String seq = """
+                        with recursive d(n) as (select 0 union all select n + 1 from d where n < 99)
+                        select a.n * 100 + b.n as n from d a cross join d b
+                        """;
+
+                st.execute("""
+                        insert into user (user_id, profile_name, user_name, password, email, phone,
+                                          profile_image, university, interest, created_at)
+                        with recursive u(n) as (select 1 union all select n + 1 from u where n < 50)
+                        select n, concat('p', n), concat('u', n), 'pw', concat(n, '@itzi.com'), '010',
+                               'img', 'univ', 'FOOD', now()
+                        from u
+                        """);
+
+                // 게시 상태 10%, 노출 기간이 남은 글 약 18%
+                st.execute("""
+                        insert into post (post_id, user_id, org_id, agreement_id, post_type, status, title, target,
+                                          benefit, content, start_date, end_date, exposure_end_date,
+                                          target_negotiable, period_negotiable, benefit_negotiable,
+                                          condition_negotiable, bookmark_count, created_at, updated_at, published_at)
+                        select n + 1, n % 50 + 1, n % 50 + 1,
+                               if(n % 20 = 0, n div 20 + 1, null),
+                               elt(n % 3 + 1, 'RECRUITING', 'BENEFIT', 'PROMOTION'),
+                               case when (n div 3) % 10 = 0 then 'PUBLISHED'
+                                    when (n div 3) % 10 < 4 then 'DRAFT'
+                                    else 'DELETED' end,
+                               concat(elt(n % 10 + 1, '카페', '헬스장', '서점', '미용실', '문구점', '약국', '안경점', '분식', '꽃집', '세탁소'), ' 제휴 ', n), '재학생', '음료 할인', '본문',
+                               curdate() - interval (n % 365) day,
+                               curdate() + interval (n % 365 - 300) day,
+                               curdate() + interval (n % 365 - 300) day,
+                               0, 0, 0, 0, n % 97, now(), now(), now() - interval n minute
+                        from (%s) s
+                        """.formatted(seq));
+
+                st.execute("""
+                        insert into partnership (partnership_id, sender_id, receiver_id, post_id, detail,
+                                                 send_status, accepted_status)
+                        select n + 1, n % 50 + 1, (n + 7) % 50 + 1, n + 1, '문의',
+                               elt(n % 2 + 1, 'DRAFT', 'SEND'),
+                               elt(n % 3 + 1, 'WAITING', 'ACCEPTED', 'DECLINED')
+                        from (%s) s
+                        where n < 5000
+                        """.formatted(seq));
+
+                // 승인 완료 협약서 5%
+                st.execute("""
+                        insert into agreement (agreement_id, partnership_id, sender_id, receiver_id, sender_name,
+                                               receiver_name, status, created_at, updated_at)
+                        select n + 1, n + 1, n % 50 + 1, (n + 7) % 50 + 1, 's', 'r',
+                               if(n % 20 = 0, 'APPROVED', elt(n % 6 + 1, 'DRAFT', 'GENERATED', 'SENT',
+                                                            'SIGNED_SENDER', 'SIGNED_RECEIVER', 'SIGNED_ALL')),
+                               now(), now()
+                        from (%s) s
+                        where n < 3000
+                        """.formatted(seq));
+
+                st.execute("set foreign_key_checks = 1");
+                st.execute("analyze table user, post, partnership, agreement");
+            }
+            return null;
+        });
+    }
+
+    // PostService.getAllPostList / RecruitService 목록과 같은 조합으로 Specification 구성
+    private static Specification<Post> published(List<Type> types) {
+        return Specification.allOf(
+                PostSpecifications.typeIn(types),
+                PostSpecifications.statusIs(Status.PUBLISHED)
+        );
+    }
+
+    private static Specification<Post> seek(Specification<Post> spec, OrderBy orderBy, PostSortKey sortKey,
+                                            Sort.Direction direction, Object sortValue, long postId) {
+        PostCursor cursor = PostCursor.decode(PostCursor.encode(orderBy, sortValue, postId), orderBy);
+        return Specification.allOf(spec, PostSpecifications.seekAfter(sortKey, direction, cursor));
+    }
+
+    // non-static: PER_CLASS 라서 주입된 리포지토리를 그대로 사용
+    Stream<Arguments> listingQueries() {
+        List<Type> promotions = List.of(Type.BENEFIT, Type.PROMOTION);
+        List<Type> recruiting = List.of(Type.RECRUITING);
+        List<Status> mine = List.of(Status.DRAFT, Status.PUBLISHED);
+
+        return Stream.of(
+                Arguments.of("제휴 홍보 목록 - 마감 임박순", (Runnable) () -> postRepository.findListResponses(
+                        published(promotions),
+                        PostSpecifications.seekSort(PostSortKey.EXPOSURE_END_DATE, Sort.Direction.ASC), 13)),
+                Arguments.of("제휴 홍보 목록 - 최신순 다음 페이지", (Runnable) () -> postRepository.findListResponses(
+                        seek(published(promotions), OrderBy.LATEST, PostSortKey.PUBLISHED_AT, Sort.Direction.DESC,
+                                LocalDateTime.now().minusMinutes(100), 101L),
+                        PostSpecifications.seekSort(PostSortKey.PUBLISHED_AT, Sort.Direction.DESC), 13)),
+                Arguments.of("모집글 목록 - 마감 임박순", (Runnable) () -> postRepository.findListResponses(
+                        published(recruiting), PageRequest.of(0, 12, Sort.by("endDate", "postId")))),
+                Arguments.of("모집글 목록 - 인기순", (Runnable) () -> postRepository.findListResponses(
+                        published(recruiting),
+                        PostSpecifications.seekSort(PostSortKey.POPULAR_SCORE, Sort.Direction.DESC), 13)),
+                Arguments.of("게시글 검색", (Runnable) () -> postRepository.searchListResponses(
+                        Specification.allOf(published(List.of(Type.values())), PostSpecifications.matchesKeyword("카페")),
+                        PostSpecifications.toBooleanQuery("카페"), 0, 13)),
+                Arguments.of("내가 작성한 글", (Runnable) () ->
+                        postRepository.findListResponsesByUser(3L, Type.PROMOTION, mine)),
+                Arguments.of("협약서로 작성된 홍보글", (Runnable) () ->
+                        postRepository.findByAgreement_AgreementIdAndType(7L, Type.PROMOTION)),
+                Arguments.of("보낸 문의함", (Runnable) () ->
+                        partnershipRepository.findBySenderUserIdAndSendStatus(3L, SendStatus.SEND)),
+                Arguments.of("받은 문의함", (Runnable) () ->
+                        partnershipRepository.findByReceiverUserIdAndSendStatus(3L, SendStatus.SEND)),
+                Arguments.of("수락된 문의", (Runnable) () ->
+                        partnershipRepository.findByAcceptedStatusAndSenderUserIdOrAcceptedStatusAndReceiverUserId(
+                                AcceptedStatus.ACCEPTED, 3L, AcceptedStatus.ACCEPTED, 3L)),
+                Arguments.of("승인 완료 협약서", (Runnable) () ->
+                        agreementRepository.findByStatus(com.itzi.itzi.agreement.domain.Status.APPROVED)),
+                Arguments.of("사용자별 협약서", (Runnable) () ->
+                        agreementRepository.findByStatusAndSenderUserIdOrStatusAndReceiverUserId(
+                                com.itzi.itzi.agreement.domain.Status.SIGNED_ALL, 3L,
+                                com.itzi.itzi.agreement.domain.Status.SIGNED_ALL, 3L))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("listingQueries")
+    void 목록_쿼리는_풀스캔하지_않는다(String name, Runnable repositoryCall) {
+        // 목록 쿼리 자체만 확인 (이어서 나가는 연관 엔티티 로딩은 제외)
+        CapturedSql sql = capture(repositoryCall).get(0);
+        Map<String, String> tables = tablesByAlias(sql.sql());
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("explain " + sql.sql(), sql.params().toArray());
+
+        List<Map<String, Object>> checked = plan.stream()
+                .filter(row -> CHECKED_TABLES.contains(tables.get(String.valueOf(row.get("table")))))
+                .toList();
+
+        assertThat(checked).as("%s\n%s\n실행 계획: %s", name, sql.sql(), plan).isNotEmpty();
+        assertThat(checked)
+                .as("%s\n%s\n실행 계획: %s", name, sql.sql(), plan)
+                .allSatisfy(row -> {
+                    assertThat(row.get("type")).isNotEqualTo("ALL");
+                    assertThat(row.get("key")).isNotNull();
+                });
+    }
+
+    private static List<CapturedSql> capture(Runnable call) {
+        captured.clear();
+        capturing = true;
+        try {
+            call.run();
+        } finally {
+            capturing = false;
+        }
+        assertThat(captured).as("실행된 select").isNotEmpty();
+        return List.copyOf(captured);
+    }
+
+    private static Map<String, String> tablesByAlias(String sql) {
+        Map<String, String> tables = new HashMap<>();
+        Matcher m = TABLE_ALIAS.matcher(sql);
+        while (m.find()) {
+            tables.put(m.group(2), m.group(1).toLowerCase());
+        }
+        return tables;
+    }
+
+    private record CapturedSql(String sql, List<Object> params) {
+    }
+
+    /*
+     SQL 캡처용 DataSource 래퍼
+     - prepareStatement 로 만든 select 문과 setXxx(index, value) 바인딩 값을 실행 시점에 기록
+     */
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor sqlCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return capturing(super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection capturing(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(SqlCaptureConfig.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement ps) {
+                            return capturing(ps, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            Map<Integer, Object> params = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(SqlCaptureConfig.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            params.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (name.startsWith("execute") && capturing && sql.trim().toLowerCase().startsWith("select")) {
+                            captured.add(new CapturedSql(sql, new ArrayList<>(params.values())));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
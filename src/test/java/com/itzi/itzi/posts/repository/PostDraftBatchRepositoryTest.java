@@ -0,0 +1,111 @@
+package com.itzi.itzi.posts.repository;
+
+import com.itzi.itzi.auth.domain.Category;
+import com.itzi.itzi.auth.domain.OrgProfile;
+import com.itzi.itzi.auth.domain.OrgType;
+import com.itzi.itzi.auth.domain.User;
+import com.itzi.itzi.posts.domain.Post;
+import com.itzi.itzi.posts.domain.Status;
+import com.itzi.itzi.posts.domain.Type;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ AI 배치 초안 일괄 저장 (JDBC batch insert)
+ - rewriteBatchedStatements=true 로 드라이버가 multi-row insert 한 문장으로 보낼 때도
+   돌려받은 post_id가 목록 순서대로 각 초안의 행과 맞는지 확인
+ - Docker가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest(properties = "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(PostDraftBatchRepository.class)
+class PostDraftBatchRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private PostDraftBatchRepository postDraftBatchRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 일괄_저장한_초안마다_생성된_post_id가_자기_행을_가리킨다() {
+        User user = em.persist(User.builder()
+                .profileName("총학생회")
+                .userName("총학생회")
+                .password("password")
+                .email("council@itzi.com")
+                .phone("010-0000-0000")
+                .profileImage("https://example.com/profile.png")
+                .university("성신여자대학교")
+                .interest(Category.FOOD)
+                .build());
+        OrgProfile orgProfile = em.persist(OrgProfile.builder()
+                .user(user)
+                .orgType(OrgType.SCHOOL)
+                .schoolName("성신여자대학교")
+                .build());
+        em.flush();
+
+        List<Post> drafts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            drafts.add(Post.builder()
+                    .user(user)
+                    .orgProfile(orgProfile)
+                    .type(i % 2 == 0 ? Type.RECRUITING : Type.BENEFIT)
+                    .status(Status.DRAFT)
+                    .title("초안 " + i)
+                    .target("재학생")
+                    .startDate(LocalDate.of(2025, 3, 1).plusDays(i))
+                    .endDate(i == 3 ? null : LocalDate.of(2025, 6, 1))
+                    .content("본문 " + i)
+                    .build());
+        }
+
+        postDraftBatchRepository.insertDrafts(drafts);
+
+        assertThat(drafts).extracting(Post::getPostId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(drafts).allSatisfy(d -> assertThat(d.getCreatedAt()).isNotNull());
+
+        for (int i = 0; i < drafts.size(); i++) {
+            Post draft = drafts.get(i);
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "select title, post_type, status, start_date, end_date, org_id from post where post_id = ?",
+                    draft.getPostId());
+
+            assertThat(row.get("title")).isEqualTo("초안 " + i);
+            assertThat(row.get("post_type")).isEqualTo(draft.getType().name());
+            assertThat(row.get("status")).isEqualTo("DRAFT");
+            assertThat(row.get("start_date").toString()).isEqualTo(draft.getStartDate().toString());
+            if (i == 3) {
+                assertThat(row.get("end_date")).isNull();
+            } else {
+                assertThat(row.get("end_date")).isNotNull();
+            }
+            assertThat(((Number) row.get("org_id")).longValue()).isEqualTo(orgProfile.getOrgId());
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.itzi.itzi.posts.repository;
+
+import com.itzi.itzi.agreement.domain.Agreement;
+import com.itzi.itzi.auth.domain.Category;
+import com.itzi.itzi.auth.domain.OrgProfile;
+import com.itzi.itzi.auth.domain.OrgType;
+import com.itzi.itzi.auth.domain.User;
+import com.itzi.itzi.posts.domain.OrderBy;
+import com.itzi.itzi.posts.domain.Post;
+import com.itzi.itzi.posts.domain.PostSortKey;
+import com.itzi.itzi.posts.domain.Status;
+import com.itzi.itzi.posts.domain.Type;
+import com.itzi.itzi.posts.dto.response.PostListResponse;
+import com.itzi.itzi.posts.service.PostCursor;
+import com.itzi.itzi.store.domain.Store;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        // 운영은 Flyway + validate, 이 테스트는 빈 H2에 엔티티 기준으로 스키마 생성
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void 제휴_홍보글_상세는_협약서와_양측_프로필을_한_번에_조회한다() {
+        Long postId = persistPromotion();
+        statistics.clear();
+
+        Post post = postRepository.findPromotionDetail(postId).orElseThrow();
+
+        // PromotionService.getPromotionDetail 이 응답을 만들며 접근하는 연관관계
+        Agreement agreement = post.getAgreement();
+        assertThat(post.getUser().getInterest()).isEqualTo(Category.FOOD);
+        assertThat(agreement.getSender().getOrgProfile().getSchoolName()).isEqualTo("성신여자대학교");
+        assertThat(agreement.getSender().getStore()).isNull();
+        assertThat(agreement.getReceiver().getOrgProfile().getOrgType()).isEqualTo(OrgType.STORE);
+        assertThat(agreement.getReceiver().getStore().getName()).isEqualTo("잇지카페");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // 키워드 컬렉션은 역할(OrgProfile, Store)마다 배치 쿼리 1번씩만 추가
+        assertThat(agreement.getSender().getOrgProfile().getKeywords()).contains("친절");
+        assertThat(agreement.getReceiver().getOrgProfile().getKeywords()).isEmpty();
+        assertThat(agreement.getReceiver().getStore().getKeywords()).contains("커피");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 마감일이_없는_모집글도_커서로_빠짐없이_넘긴다() {
+        List<Long> all = persistRecruitings(
+                LocalDate.of(2025, 6, 1), null, LocalDate.of(2025, 5, 1), null, LocalDate.of(2025, 6, 1));
+
+        // H2 기본 정렬도 MySQL처럼 NULL을 가장 작은 값으로 취급 (ASC면 맨 앞, DESC면 맨 뒤)
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            List<Long> ordered = page(direction, null, all.size()).stream().map(PostListResponse::getPostId).toList();
+
+            List<Long> paged = new ArrayList<>();
+            String cursor = null;
+            do {
+                List<PostListResponse> rows = page(direction, cursor, 2);
+                rows.forEach(row -> paged.add(row.getPostId()));
+                PostListResponse last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+                cursor = last == null ? null : PostCursor.encode(OrderBy.CLOSING, PostSortKey.END_DATE, last);
+            } while (cursor != null);
+
+            assertThat(ordered).containsExactlyInAnyOrderElementsOf(all);
+            assertThat(paged).as(direction.name()).containsExactlyElementsOf(ordered);
+        }
+    }
+
+    // 모집글 마감일 기준 키셋 조회 (RecruitService 목록과 같은 조합)
+    private List<PostListResponse> page(Sort.Direction direction, String cursor, int limit) {
+        return postRepository.findListResponses(
+                Specification.allOf(
+                        PostSpecifications.typeIn(List.of(Type.RECRUITING)),
+                        PostSpecifications.seekAfter(PostSortKey.END_DATE, direction, PostCursor.decode(cursor, OrderBy.CLOSING))
+                ),
+                PostSpecifications.seekSort(PostSortKey.END_DATE, direction), limit);
+    }
+
+    private List<Long> persistRecruitings(LocalDate... endDates) {
+        User user = em.persist(user("총학생회"));
+        OrgProfile orgProfile = em.persist(OrgProfile.builder()
+                .user(user)
+                .orgType(OrgType.SCHOOL)
+                .schoolName("성신여자대학교")
+                .build());
+
+        List<Long> ids = new ArrayList<>();
+        for (LocalDate endDate : endDates) {
+            ids.add(em.persist(Post.builder()
+                    .user(user)
+                    .orgProfile(orgProfile)
+                    .type(Type.RECRUITING)
+                    .status(Status.PUBLISHED)
+                    .title("모집")
+                    .startDate(LocalDate.of(2025, 3, 1))
+                    .endDate(endDate)
+                    .build()).getPostId());
+        }
+
+        em.flush();
+        em.clear();
+        return ids;
+    }
+
+    private Long persistPromotion() {
+        User sender = em.persist(user("총학생회"));
+        OrgProfile senderOrg = em.persist(OrgProfile.builder()
+                .user(sender)
+                .orgType(OrgType.SCHOOL)
+                .schoolName("성신여자대학교")
+                .keywords(new HashSet<>(Set.of("친절")))
+                .build());
+
+        User receiver = em.persist(user("잇지카페"));
+        em.persist(OrgProfile.builder()
+                .user(receiver)
+                .orgType(OrgType.STORE)
+                .schoolName("성신여자대학교")
+                .build());
+        em.persist(Store.builder()
+                .user(receiver)
+                .storeImage("https://example.com/store.png")
+                .name("잇지카페")
+                .info("학교 앞 카페")
+                .category(Category.FOOD)
+                .operatingHours("09:00-21:00")
+                .phone("010-0000-0000")
+                .address("서울시 성북구")
+                .ownerName("김사장")
+                .linkUrl("https://example.com")
+                .rating(5)
+                .keywords(new HashSet<>(Set.of("커피")))
+                .build());
+
+        Agreement agreement = em.persist(Agreement.builder()
+                .sender(sender)
+                .receiver(receiver)
+                .senderName(sender.getUserName())
+                .receiverName(receiver.getUserName())
+                .status(com.itzi.itzi.agreement.domain.Status.APPROVED)
+                .build());
+
+        Post post = em.persist(Post.builder()
+                .user(sender)
+                .orgProfile(senderOrg)
+                .type(Type.PROMOTION)
+                .status(Status.PUBLISHED)
+                .title("제휴 홍보")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(7))
+                .exposureEndDate(LocalDate.now().plusDays(7))
+                .exposeProposerInfo(true)
+                .exposeTargetInfo(true)
+                .agreement(agreement)
+                .build());
+
+        em.flush();
+        em.clear();
+        return post.getPostId();
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .profileName(name)
+                .userName(name)
+                .password("password")
+                .email(name + "@itzi.com")
+                .phone("010-0000-0000")
+                .profileImage("https://example.com/profile.png")
+                .university("성신여자대학교")
+                .interest(Category.FOOD)
+                .build();
+    }
+}